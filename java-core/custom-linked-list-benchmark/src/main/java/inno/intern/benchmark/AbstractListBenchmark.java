@@ -0,0 +1,47 @@
+package inno.intern.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds a list of {@code size} elements for one implementation.
+ * End-operation benchmarks run {@link #BATCH} operations per invocation and undo them in an
+ * untimed invocation-level teardown, so the list stays at {@code size} for the whole trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class AbstractListBenchmark {
+    protected static final int BATCH = 1000;
+    protected static final Integer VALUE = 42;
+
+    @Param({"CUSTOM", "CUSTOM_POOLED", "UNROLLED", "INDEXED", "LINKED_LIST", "ARRAY_LIST", "ARRAY_DEQUE"})
+    public ListImplementation implementation;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    protected ListAdapter list;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        list = implementation.create();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+    }
+}
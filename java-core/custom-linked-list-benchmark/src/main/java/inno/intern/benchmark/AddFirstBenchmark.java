@@ -0,0 +1,24 @@
+package inno.intern.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.TearDown;
+
+public class AddFirstBenchmark extends AbstractListBenchmark {
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void addFirst() {
+        for (int i = 0; i < BATCH; i++) {
+            list.addFirst(VALUE);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void restoreSize() {
+        for (int i = 0; i < BATCH; i++) {
+            list.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package inno.intern.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the list benchmarks with the GC profiler attached, so every result carries the allocation
+ * rate next to the throughput. Results are also written to {@code benchmark-results.json}.
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [benchmark regexp]}. Individual parameters can be
+ * narrowed with the standard JMH runner instead, e.g.
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main GetBenchmark -p size=1000 -prof gc}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "inno.intern.benchmark.*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("benchmark-results.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,58 @@
+package inno.intern.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random positional reads. ArrayDeque is left out: its adapter can only walk the deque from the head.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GetBenchmark {
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"CUSTOM", "UNROLLED", "INDEXED", "LINKED_LIST", "ARRAY_LIST"})
+    public ListImplementation implementation;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private ListAdapter list;
+    private final int[] indices = new int[INDEX_COUNT];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        list = implementation.create();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        cursor = (cursor + 1) & (INDEX_COUNT - 1);
+        return list.get(indices[cursor]);
+    }
+}
@@ -0,0 +1,18 @@
+package inno.intern.benchmark;
+
+/**
+ * Common view over the benchmarked lists, so every implementation runs the same benchmark body.
+ */
+public interface ListAdapter {
+    void addFirst(Integer element);
+
+    void addLast(Integer element);
+
+    Integer get(int index);
+
+    Integer removeFirst();
+
+    Integer removeLast();
+
+    int size();
+}
@@ -0,0 +1,120 @@
+package inno.intern.benchmark;
+
+import inno.intern.CustomLinkedList;
+import inno.intern.IndexedLinkedList;
+import inno.intern.UnrolledLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+public enum ListImplementation {
+    CUSTOM {
+        @Override
+        public ListAdapter create() {
+            return adapt(new CustomLinkedList<>());
+        }
+    },
+    CUSTOM_POOLED {
+        @Override
+        public ListAdapter create() {
+            return adapt(new CustomLinkedList<>(1 << 16));
+        }
+    },
+    UNROLLED {
+        @Override
+        public ListAdapter create() {
+            UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+            return adapt(list::addFirst, list::addLast, list::get, list::removeFirst, list::removeLast, list::size);
+        }
+    },
+    INDEXED {
+        @Override
+        public ListAdapter create() {
+            IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+            return adapt(list::addFirst, list::addLast, list::get, list::removeFirst, list::removeLast, list::size);
+        }
+    },
+    LINKED_LIST {
+        @Override
+        public ListAdapter create() {
+            LinkedList<Integer> list = new LinkedList<>();
+            return new ListAdapter() {
+                public void addFirst(Integer element) { list.addFirst(element); }
+                public void addLast(Integer element) { list.addLast(element); }
+                public Integer get(int index) { return list.get(index); }
+                public Integer removeFirst() { return list.pollFirst(); }
+                public Integer removeLast() { return list.pollLast(); }
+                public int size() { return list.size(); }
+            };
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        public ListAdapter create() {
+            ArrayList<Integer> list = new ArrayList<>();
+            return new ListAdapter() {
+                public void addFirst(Integer element) { list.add(0, element); }
+                public void addLast(Integer element) { list.add(element); }
+                public Integer get(int index) { return list.get(index); }
+                public Integer removeFirst() { return list.isEmpty() ? null : list.remove(0); }
+                public Integer removeLast() { return list.isEmpty() ? null : list.remove(list.size() - 1); }
+                public int size() { return list.size(); }
+            };
+        }
+    },
+    ARRAY_DEQUE {
+        @Override
+        public ListAdapter create() {
+            ArrayDeque<Integer> deque = new ArrayDeque<>();
+            return new ListAdapter() {
+                public void addFirst(Integer element) { deque.addFirst(element); }
+                public void addLast(Integer element) { deque.addLast(element); }
+                public Integer get(int index) { return walk(deque, index); }
+                public Integer removeFirst() { return deque.pollFirst(); }
+                public Integer removeLast() { return deque.pollLast(); }
+                public int size() { return deque.size(); }
+            };
+        }
+    };
+
+    public abstract ListAdapter create();
+
+    private static ListAdapter adapt(CustomLinkedList<Integer> list) {
+        return adapt(list::addFirst, list::addLast, list::get, list::removeFirst, list::removeLast, list::size);
+    }
+
+    /**
+     * One adapter for the library lists, which share method names but no interface.
+     */
+    private static ListAdapter adapt(Consumer<Integer> addFirst, Consumer<Integer> addLast, IntFunction<Integer> get,
+                                     Supplier<Integer> removeFirst, Supplier<Integer> removeLast, IntSupplier size) {
+        return new ListAdapter() {
+            public void addFirst(Integer element) { addFirst.accept(element); }
+            public void addLast(Integer element) { addLast.accept(element); }
+            public Integer get(int index) { return get.apply(index); }
+            public Integer removeFirst() { return removeFirst.get(); }
+            public Integer removeLast() { return removeLast.get(); }
+            public int size() { return size.getAsInt(); }
+        };
+    }
+
+    /**
+     * ArrayDeque has no positional access, so {@code get} walks from the head like a linked list would.
+     */
+    private static Integer walk(ArrayDeque<Integer> deque, int index) {
+        if (index < 0 || index >= deque.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + deque.size());
+        }
+        Iterator<Integer> iterator = deque.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+}
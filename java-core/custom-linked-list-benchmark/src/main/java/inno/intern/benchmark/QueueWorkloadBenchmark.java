@@ -0,0 +1,28 @@
+package inno.intern.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Steady-state workloads that keep the list at {@code size}: a FIFO queue, and a deque that
+ * churns both ends.
+ */
+public class QueueWorkloadBenchmark extends AbstractListBenchmark {
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void fifo(Blackhole blackhole) {
+        list.addLast(VALUE);
+        blackhole.consume(list.removeFirst());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void dequeChurn(Blackhole blackhole) {
+        list.addFirst(VALUE);
+        blackhole.consume(list.removeLast());
+        list.addLast(VALUE);
+        blackhole.consume(list.removeFirst());
+    }
+}
@@ -0,0 +1,25 @@
+package inno.intern.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class RemoveFirstBenchmark extends AbstractListBenchmark {
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void removeFirst(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(list.removeFirst());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void restoreSize() {
+        for (int i = 0; i < BATCH; i++) {
+            list.addFirst(VALUE);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package inno.intern;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free FIFO variant of {@link CustomLinkedList} for multi-producer, multi-consumer queues,
+ * built as a Michael-Scott queue: {@code head} always points at a dummy node and both ends are
+ * advanced with CAS, so producers and consumers never block each other.
+ * Null elements are rejected because {@code null} signals an empty list.
+ */
+public class ConcurrentCustomLinkedList<T>{
+
+    private static class Node<T>{
+        volatile T data;
+        volatile Node<T> next;
+
+        Node(T data){
+            this.data = data;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentCustomLinkedList, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentCustomLinkedList.class, Node.class, "head");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentCustomLinkedList, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentCustomLinkedList.class, Node.class, "tail");
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentCustomLinkedList(){
+        Node<T> dummy = new Node<>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Weakly consistent: concurrent adds and removes may or may not be reflected.
+     */
+    public int size(){
+        long current = size.sum();
+        if(current < 0){
+            return 0;
+        }
+        return (int) Math.min(current, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty(){
+        return head.next == null;
+    }
+
+    public void addLast(T element){
+        if(element == null){
+            throw new NullPointerException("Null elements are not supported");
+        }
+        Node<T> newNode = new Node<>(element);
+        while(true){
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if(last != tail){
+                continue;
+            }
+            if(next == null){
+                if(NEXT.compareAndSet(last, null, newNode)){
+                    TAIL.compareAndSet(this, last, newNode);
+                    size.increment();
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    public T getFirst(){
+        while(true){
+            Node<T> first = head;
+            Node<T> next = first.next;
+            if(next == null){
+                return null;
+            }
+            T data = next.data;
+            if(first == head){
+                return data;
+            }
+        }
+    }
+
+    public T removeFirst(){
+        while(true){
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if(first != head){
+                continue;
+            }
+            if(next == null){
+                return null;
+            }
+            if(first == last){
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            T data = next.data;
+            if(HEAD.compareAndSet(this, first, next)){
+                next.data = null;
+                size.decrement();
+                return data;
+            }
+        }
+    }
+}
@@ -1,41 +1,80 @@
 package inno.intern;
 
-public class CustomLinkedList<T>{
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class CustomLinkedList<T> implements Iterable<T>{
 
     private static class Node<T>{
         T data;
+        Node<T> prev;
         Node<T> next;
 
-        Node(T data, Node<T> next){
+        Node(Node<T> prev, T data, Node<T> next){
+            this.prev = prev;
             this.data = data;
             this.next = next;
         }
-
-        Node(T data){
-            this.data = data;
-            this.next = null;
-        }
     }
 
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private Node<T> head = null;
     private Node<T> tail = null;
     private int size = 0;
+    private int modCount = 0;
+
+    private final int poolCapacity;
+    private Node<T> freeList = null;
+    private int pooledNodes = 0;
+    private long poolHits = 0;
+    private long poolMisses = 0;
+
+    public CustomLinkedList(){
+        this(0);
+    }
+
+    /**
+     * Creates a list that keeps up to {@code poolCapacity} removed nodes on a free list
+     * and reuses them for later adds. A capacity of zero disables pooling.
+     */
+    public CustomLinkedList(int poolCapacity){
+        if(poolCapacity < 0){
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
+    }
 
     public int size(){
         return size;
     }
 
     public void addFirst(T element){
-        Node<T> newNode = new Node<>(element, head);
-        head = newNode;
-        if(tail == null){
+        Node<T> newNode = obtainNode(null, element, head);
+        if(head == null){
             tail = newNode;
         }
+        else{
+            head.prev = newNode;
+        }
+        head = newNode;
         size++;
+        modCount++;
     }
 
     public void addLast(T element){
-        Node<T> newNode = new Node<>(element);
+        Node<T> newNode = obtainNode(tail, element, null);
         if(head == null){
             head = newNode;
         }
@@ -44,6 +83,7 @@ public class CustomLinkedList<T>{
         }
         tail = newNode;
         size++;
+        modCount++;
     }
 
     public void add(int index, T element){
@@ -60,13 +100,7 @@ public class CustomLinkedList<T>{
             return;
         }
 
-        Node<T> prev = head;
-        for(int i = 0; i < index - 1; i++){
-            prev = prev.next;
-        }
-        Node<T> newNode = new Node<>(element, prev.next);
-        prev.next = newNode;
-        size++;
+        linkBefore(element, node(index));
     }
 
     public T getFirst(){
@@ -88,72 +122,642 @@ public class CustomLinkedList<T>{
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
 
-        Node<T> temp = head;
-        for(int i = 0; i < index; i++){
-            temp = temp.next;
-        }
-        return temp.data;
+        return node(index).data;
     }
 
     public T removeFirst(){
         if(head == null){
             return null;
         }
+        return unlink(head);
+    }
 
-        T data = head.data;
-        head = head.next;
-        size--;
+    public T removeLast(){
+        if(tail == null){
+            return null;
+        }
+        return unlink(tail);
+    }
 
-        if (size == 0) {
-            tail = null;
+    public T remove(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-        return data;
+
+        return unlink(node(index));
     }
 
-    public T removeLast(){
+    /**
+     * Moves all nodes of {@code other} to the end of this list in O(1), leaving {@code other} empty.
+     */
+    public void appendAll(CustomLinkedList<T> other){
+        if(other == this){
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if(other.head == null){
+            return;
+        }
+
         if(head == null){
-            return null;
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            other.head.prev = tail;
         }
+        tail = other.tail;
+        size += other.size;
+        modCount++;
 
-        T data = tail.data;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        other.modCount++;
+    }
 
-        if (size == 1) {
+    public void addAll(Collection<? extends T> elements){
+        for(T element : elements){
+            addLast(element);
+        }
+    }
+
+    public void addAll(T[] elements){
+        for(T element : elements){
+            addLast(element);
+        }
+    }
+
+    /**
+     * Removes every element matching the filter in a single pass.
+     *
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter){
+        boolean removed = false;
+        Node<T> current = head;
+        while(current != null){
+            Node<T> next = current.next;
+            if(filter.test(current.data)){
+                unlink(current);
+                removed = true;
+            }
+            current = next;
+        }
+        return removed;
+    }
+
+    /**
+     * Detaches the elements from {@code index} to the end and returns them as a new list.
+     */
+    public CustomLinkedList<T> splitAt(int index){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        CustomLinkedList<T> suffix = new CustomLinkedList<>(poolCapacity);
+        if(index == size){
+            return suffix;
+        }
+
+        Node<T> first = node(index);
+        suffix.head = first;
+        suffix.tail = tail;
+        suffix.size = size - index;
+
+        tail = first.prev;
+        if(tail == null){
             head = null;
-            tail = null;
         } else {
-            Node<T> current = head;
-            while(current.next != tail){
-                current = current.next;
-            }
-            current.next = null;
-            tail = current;
+            tail.next = null;
         }
-        size--;
-        return data;
+        first.prev = null;
+        size = index;
+        modCount++;
+        return suffix;
     }
 
-    public T remove(int index){
-        if(index < 0 || index >= size){
+    /**
+     * Stable bottom-up merge sort that relinks the existing nodes: no nodes or buffers are allocated.
+     * A null comparator sorts by natural ordering. If the comparator throws, the list is left in its
+     * original order.
+     */
+    public void sort(Comparator<? super T> comparator){
+        if(size < 2){
+            return;
+        }
+        try{
+            head = mergeSort(head, orderOf(comparator));
+        } catch(Throwable e){
+            restoreForwardLinks();
+            throw e;
+        }
+        relinkBackwards();
+    }
+
+    /**
+     * Splits the chain into runs that are sorted and merged on the common ForkJoinPool.
+     * Falls back to {@link #sort(Comparator)} for short lists.
+     */
+    public void parallelSort(Comparator<? super T> comparator){
+        if(size < PARALLEL_SORT_THRESHOLD){
+            sort(comparator);
+            return;
+        }
+        try{
+            head = ForkJoinPool.commonPool().invoke(new SortTask<>(head, size, orderOf(comparator)));
+        } catch(Throwable e){
+            restoreForwardLinks();
+            throw e;
+        }
+        relinkBackwards();
+    }
+
+    /**
+     * Copies the current contents into an immutable {@link PersistentLinkedList} that readers can
+     * traverse while this list keeps changing.
+     */
+    public PersistentLinkedList<T> snapshot(){
+        PersistentLinkedList<T> snapshot = PersistentLinkedList.empty();
+        for(Node<T> current = tail; current != null; current = current.prev){
+            snapshot = snapshot.addFirst(current.data);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public Iterator<T> iterator(){
+        return new ListItr(0);
+    }
+
+    public ListIterator<T> listIterator(){
+        return new ListItr(0);
+    }
+
+    public ListIterator<T> listIterator(int index){
+        if(index < 0 || index > size){
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
+        return new ListItr(index);
+    }
 
-        if(index == 0){
-            return removeFirst();
+    @Override
+    public Spliterator<T> spliterator(){
+        return new NodeSpliterator(head, size, modCount);
+    }
+
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    public int getPoolCapacity(){
+        return poolCapacity;
+    }
+
+    public int getPooledNodeCount(){
+        return pooledNodes;
+    }
+
+    public long getPoolHits(){
+        return poolHits;
+    }
+
+    public long getPoolMisses(){
+        return poolMisses;
+    }
+
+    private Node<T> obtainNode(Node<T> prev, T data, Node<T> next){
+        Node<T> node = freeList;
+        if(node == null){
+            if(poolCapacity > 0){
+                poolMisses++;
+            }
+            return new Node<>(prev, data, next);
+        }
+
+        freeList = node.next;
+        pooledNodes--;
+        poolHits++;
+        node.prev = prev;
+        node.data = data;
+        node.next = next;
+        return node;
+    }
+
+    private void recycleNode(Node<T> node){
+        node.data = null;
+        node.prev = null;
+        if(pooledNodes < poolCapacity){
+            node.next = freeList;
+            freeList = node;
+            pooledNodes++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> orderOf(Comparator<? super T> comparator){
+        if(comparator != null){
+            return comparator;
+        }
+        return (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Restores prev pointers and the tail after a sort rewired the chain through next pointers only.
+     */
+    private void relinkBackwards(){
+        Node<T> prev = null;
+        for(Node<T> current = head; current != null; current = current.next){
+            current.prev = prev;
+            prev = current;
+        }
+        tail = prev;
+        modCount++;
+    }
+
+    /**
+     * Undoes a sort that failed halfway. Sorting only rewires next pointers, so the prev pointers
+     * and the tail still describe the original order and the next pointers can be rebuilt from them.
+     */
+    private void restoreForwardLinks(){
+        Node<T> next = null;
+        for(Node<T> current = tail; current != null; current = current.prev){
+            current.next = next;
+            next = current;
+        }
+    }
+
+    /**
+     * Sorts a null-terminated chain by merging runs of width 1, 2, 4, ... until one run is left.
+     */
+    private static <T> Node<T> mergeSort(Node<T> first, Comparator<? super T> comparator){
+        Node<T> list = first;
+        for(int width = 1; ; width <<= 1){
+            Node<T> left = list;
+            Node<T> sortedTail = null;
+            int merges = 0;
+            list = null;
+
+            while(left != null){
+                merges++;
+                Node<T> right = left;
+                int leftSize = 0;
+                while(leftSize < width && right != null){
+                    leftSize++;
+                    right = right.next;
+                }
+                int rightSize = width;
+
+                while(leftSize > 0 || (rightSize > 0 && right != null)){
+                    Node<T> next;
+                    if(leftSize == 0){
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    } else if(rightSize == 0 || right == null || comparator.compare(left.data, right.data) <= 0){
+                        next = left;
+                        left = left.next;
+                        leftSize--;
+                    } else {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    }
+
+                    if(sortedTail == null){
+                        list = next;
+                    } else {
+                        sortedTail.next = next;
+                    }
+                    sortedTail = next;
+                }
+                left = right;
+            }
+            sortedTail.next = null;
+
+            if(merges <= 1){
+                return list;
+            }
+        }
+    }
+
+    private static <T> Node<T> merge(Node<T> left, Node<T> right, Comparator<? super T> comparator){
+        Node<T> first = null;
+        Node<T> last = null;
+        while(left != null && right != null){
+            Node<T> next;
+            if(comparator.compare(left.data, right.data) <= 0){
+                next = left;
+                left = left.next;
+            } else {
+                next = right;
+                right = right.next;
+            }
+            if(last == null){
+                first = next;
+            } else {
+                last.next = next;
+            }
+            last = next;
+        }
+        Node<T> rest = (left != null) ? left : right;
+        if(last == null){
+            return rest;
+        }
+        last.next = rest;
+        return first;
+    }
+
+    /**
+     * Sorts a null-terminated chain of {@code length} nodes by cutting it in half, sorting the halves
+     * in parallel and merging them.
+     */
+    private static class SortTask<T> extends RecursiveTask<Node<T>>{
+        private final Node<T> first;
+        private final int length;
+        private final Comparator<? super T> comparator;
+
+        SortTask(Node<T> first, int length, Comparator<? super T> comparator){
+            this.first = first;
+            this.length = length;
+            this.comparator = comparator;
         }
 
-        if(index == size - 1){
-            return removeLast();
+        @Override
+        protected Node<T> compute(){
+            if(length < PARALLEL_SORT_THRESHOLD){
+                return mergeSort(first, comparator);
+            }
+
+            int leftLength = length >> 1;
+            Node<T> leftLast = first;
+            for(int i = 1; i < leftLength; i++){
+                leftLast = leftLast.next;
+            }
+            Node<T> rightFirst = leftLast.next;
+            leftLast.next = null;
+
+            SortTask<T> leftTask = new SortTask<>(first, leftLength, comparator);
+            leftTask.fork();
+            Node<T> right;
+            try{
+                right = new SortTask<>(rightFirst, length - leftLength, comparator).compute();
+            } catch(Throwable e){
+                // the caller restores the links, which is only safe once no subtask is still rewiring them
+                leftTask.quietlyJoin();
+                throw e;
+            }
+            return merge(leftTask.join(), right, comparator);
         }
+    }
 
-        Node<T> prev = head;
-        for(int i = 0; i < index - 1; i++){
-            prev = prev.next;
+    /**
+     * Inserts an element right before the given non-null node.
+     */
+    private void linkBefore(T element, Node<T> successor){
+        Node<T> predecessor = successor.prev;
+        Node<T> newNode = obtainNode(predecessor, element, successor);
+        successor.prev = newNode;
+        if(predecessor == null){
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
         }
+        size++;
+        modCount++;
+    }
 
-        T data = prev.next.data;
+    private T unlink(Node<T> target){
+        T data = target.data;
+        Node<T> prev = target.prev;
+        Node<T> next = target.next;
 
-        prev.next = prev.next.next;
+        if(prev == null){
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if(next == null){
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+
+        recycleNode(target);
         size--;
+        modCount++;
         return data;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the node at the given index, walking from whichever end is closer.
+     */
+    private Node<T> node(int index){
+        if(index < (size >> 1)){
+            Node<T> current = head;
+            for(int i = 0; i < index; i++){
+                current = current.next;
+            }
+            return current;
+        }
+
+        Node<T> current = tail;
+        for(int i = size - 1; i > index; i--){
+            current = current.prev;
+        }
+        return current;
+    }
+
+    /**
+     * Fail-fast cursor over the nodes; add, remove and set relink around the cursor in O(1).
+     */
+    private class ListItr implements ListIterator<T>{
+        private Node<T> lastReturned;
+        private Node<T> next;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index){
+            next = (index == size) ? null : node(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext(){
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next(){
+            checkForComodification();
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious(){
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous(){
+            checkForComodification();
+            if(!hasPrevious()){
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex(){
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex(){
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove(){
+            checkForComodification();
+            if(lastReturned == null){
+                throw new IllegalStateException();
+            }
+            Node<T> lastNext = lastReturned.next;
+            if(next == lastReturned){
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element){
+            checkForComodification();
+            if(lastReturned == null){
+                throw new IllegalStateException();
+            }
+            lastReturned.data = element;
+        }
+
+        @Override
+        public void add(T element){
+            checkForComodification();
+            lastReturned = null;
+            if(next == null){
+                addLast(element);
+            } else {
+                linkBefore(element, next);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action){
+            while(modCount == expectedModCount && nextIndex < size){
+                action.accept(next.data);
+                lastReturned = next;
+                next = next.next;
+                nextIndex++;
+            }
+            checkForComodification();
+        }
+
+        private void checkForComodification(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Covers a run of {@code remaining} nodes starting at {@code current}.
+     * Splitting hands the first half of the run to a new spliterator.
+     */
+    private class NodeSpliterator implements Spliterator<T>{
+        private static final int MIN_SPLIT_SIZE = 1 << 10;
+
+        private Node<T> current;
+        private int remaining;
+        private final int expectedModCount;
+
+        NodeSpliterator(Node<T> current, int remaining, int expectedModCount){
+            this.current = current;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action){
+            if(remaining <= 0){
+                return false;
+            }
+            T data = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(data);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action){
+            Node<T> node = current;
+            int count = remaining;
+            current = null;
+            remaining = 0;
+            for(; count > 0; count--){
+                action.accept(node.data);
+                node = node.next;
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit(){
+            if(remaining < MIN_SPLIT_SIZE){
+                return null;
+            }
+            int prefixSize = remaining >> 1;
+            Node<T> prefixStart = current;
+            for(int i = 0; i < prefixSize; i++){
+                current = current.next;
+            }
+            remaining -= prefixSize;
+            return new NodeSpliterator(prefixStart, prefixSize, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize(){
+            return remaining;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
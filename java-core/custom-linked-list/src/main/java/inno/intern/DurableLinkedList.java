@@ -0,0 +1,353 @@
+package inno.intern;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * FIFO list of byte records that survives restarts. Records are appended to memory-mapped segment
+ * files and consumed from the head. Only the head position is checkpointed; on startup the list is
+ * rebuilt by scanning forward from it.
+ * <p>
+ * Segment layout: {@code [int segment id][int reserved]} followed by records
+ * {@code [int length + 1][bytes]}. A header of {@code 0} marks the end of the written data and
+ * {@code -1} means the list continues in the segment with the next id. Fully consumed segments are
+ * kept mapped and reused for new tail segments, so steady churn does not create files. A consumed
+ * segment is only reused once a forced checkpoint has moved past it, and a segment's new id is
+ * forced before the checkpoint can reference it, so the checkpoint on disk always names a segment
+ * that exists on disk. Segments that recovery leaves out of the list get their id cleared to
+ * {@code 0} on disk before they can be reused, so no id is ever carried by two segments.
+ * <p>
+ * Writes land in the page cache and survive a process crash. They survive a machine crash only once
+ * {@link #sync()} has run, either explicitly or every {@code syncInterval} operations. Delivery is
+ * at-least-once: a record consumed right before a crash may be returned again after recovery.
+ */
+public class DurableLinkedList implements Closeable{
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    private static final int SEGMENT_HEADER = 8;
+    private static final int RECORD_HEADER = 4;
+    private static final int FIRST_SEGMENT_ID = 1;
+    private static final int NO_SEGMENT_ID = 0;
+    private static final int UNWRITTEN = 0;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String CHECKPOINT_FILE = "checkpoint.dat";
+
+    private static class Segment{
+        final MappedByteBuffer buffer;
+        int id;
+
+        Segment(MappedByteBuffer buffer){
+            this.buffer = buffer;
+            this.id = buffer.getInt(0);
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int syncInterval;
+    private final Deque<Segment> live = new ArrayDeque<>();
+    private final Deque<Segment> free = new ArrayDeque<>();
+    private final Deque<Segment> released = new ArrayDeque<>();
+    private final MappedByteBuffer checkpoint;
+    private int nextFileNumber = 0;
+    private int headOffset;
+    private int tailOffset;
+    private int size = 0;
+    private int unsyncedOperations = 0;
+    private boolean closed = false;
+
+    public DurableLinkedList(Path directory) throws IOException{
+        this(directory, DEFAULT_SEGMENT_SIZE, 0);
+    }
+
+    /**
+     * @param segmentSize  size in bytes of every segment file
+     * @param syncInterval number of operations between forced flushes to disk, 0 to leave flushing to the OS
+     */
+    public DurableLinkedList(Path directory, int segmentSize, int syncInterval) throws IOException{
+        if(segmentSize < SEGMENT_HEADER + 2 * RECORD_HEADER){
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        if(syncInterval < 0){
+            throw new IllegalArgumentException("Sync interval must not be negative: " + syncInterval);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.syncInterval = syncInterval;
+        this.checkpoint = map(directory.resolve(CHECKPOINT_FILE), Long.BYTES);
+        recover();
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public void addLast(byte[] record){
+        ensureOpen();
+        int length = record.length;
+        if(SEGMENT_HEADER + RECORD_HEADER + length + RECORD_HEADER > segmentSize){
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit into a segment of " + segmentSize + " bytes");
+        }
+
+        Segment tail = live.peekLast();
+        if(tailOffset + RECORD_HEADER + length + RECORD_HEADER > segmentSize){
+            Segment next = obtainSegment(tail.id + 1);
+            tail.buffer.putInt(tailOffset, END_OF_SEGMENT);
+            live.addLast(next);
+            tail = next;
+            tailOffset = SEGMENT_HEADER;
+        }
+
+        ByteBuffer target = tail.buffer.duplicate();
+        target.position(tailOffset + RECORD_HEADER);
+        target.put(record);
+        tail.buffer.putInt(tailOffset + RECORD_HEADER + length, UNWRITTEN);
+        tail.buffer.putInt(tailOffset, length + 1);
+        tailOffset += RECORD_HEADER + length;
+        size++;
+        afterOperation();
+    }
+
+    public byte[] getFirst(){
+        ensureOpen();
+        if(size == 0){
+            return null;
+        }
+        skipFinishedSegments();
+        return readRecord(live.peekFirst(), headOffset);
+    }
+
+    public byte[] removeFirst(){
+        ensureOpen();
+        if(size == 0){
+            return null;
+        }
+        skipFinishedSegments();
+        byte[] record = readRecord(live.peekFirst(), headOffset);
+        headOffset += RECORD_HEADER + record.length;
+        size--;
+        skipFinishedSegments();
+        writeCheckpoint();
+        afterOperation();
+        return record;
+    }
+
+    /**
+     * Forces the live segments and then the checkpoint to disk. Segments consumed before this call
+     * become reusable afterwards, since the checkpoint on disk no longer points into them.
+     */
+    public void sync(){
+        ensureOpen();
+        for(Segment segment : live){
+            segment.buffer.force();
+        }
+        forceCheckpoint();
+        unsyncedOperations = 0;
+    }
+
+    @Override
+    public void close(){
+        if(closed){
+            return;
+        }
+        if(syncInterval > 0){
+            sync();
+        }
+        closed = true;
+        live.clear();
+        free.clear();
+        released.clear();
+    }
+
+    /**
+     * Rebuilds the list from the checkpointed head: segments are chained by consecutive ids and
+     * records are counted up to the first unwritten header. Everything else becomes free. Two
+     * segments with the same id from the head on would make the chain ambiguous, so they are
+     * rejected rather than guessed between.
+     */
+    private void recover() throws IOException{
+        List<Segment> segments = new ArrayList<>();
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)){
+            for(Path file : files){
+                if(Files.size(file) != segmentSize){
+                    throw new IOException("Segment " + file + " does not match segment size " + segmentSize);
+                }
+                segments.add(new Segment(map(file, segmentSize)));
+                nextFileNumber = Math.max(nextFileNumber, fileNumber(file) + 1);
+            }
+        }
+        segments.sort(Comparator.comparingInt(segment -> segment.id));
+
+        long position = checkpoint.getLong(0);
+        int headId = position == 0 ? FIRST_SEGMENT_ID : (int) (position >>> 32);
+        headOffset = Math.max((int) position, SEGMENT_HEADER);
+
+        for(int i = 1; i < segments.size(); i++){
+            int id = segments.get(i).id;
+            if(id >= headId && id == segments.get(i - 1).id){
+                throw new IOException("More than one segment in " + directory + " has id " + id);
+            }
+        }
+
+        for(Segment segment : segments){
+            boolean extendsChain = live.isEmpty()
+                    ? segment.id == headId
+                    : segment.id == live.peekLast().id + 1;
+            if(extendsChain){
+                live.addLast(segment);
+            } else {
+                releaseRecovered(segment);
+            }
+        }
+
+        if(live.isEmpty()){
+            if(!segments.isEmpty() && position != 0){
+                throw new IOException("Checkpoint references missing segment " + headId);
+            }
+            live.addLast(obtainSegment(FIRST_SEGMENT_ID));
+            headOffset = SEGMENT_HEADER;
+            writeCheckpoint();
+        }
+
+        Iterator<Segment> chain = live.iterator();
+        Segment segment = chain.next();
+        int reached = 1;
+        int offset = headOffset;
+        while(true){
+            int header = segment.buffer.getInt(offset);
+            if(header == UNWRITTEN){
+                break;
+            }
+            if(header == END_OF_SEGMENT){
+                if(!chain.hasNext()){
+                    break;
+                }
+                segment = chain.next();
+                reached++;
+                offset = SEGMENT_HEADER;
+                continue;
+            }
+            size++;
+            offset += RECORD_HEADER + header - 1;
+        }
+        while(live.size() > reached){
+            releaseRecovered(live.pollLast());
+        }
+        tailOffset = offset;
+    }
+
+    /**
+     * A segment past the recovered tail may carry the very id the next roll stamps on another free
+     * segment, e.g. when its id was forced but the old tail's end marker was not. Its id is cleared
+     * and forced before it becomes free, so the next recovery cannot chain the stale copy.
+     */
+    private void releaseRecovered(Segment segment){
+        if(segment.id != NO_SEGMENT_ID){
+            segment.buffer.putInt(0, NO_SEGMENT_ID);
+            segment.id = NO_SEGMENT_ID;
+            segment.buffer.force();
+        }
+        free.addLast(segment);
+    }
+
+    /**
+     * Consumed segments wait in {@code released} until the checkpoint that moved past them is forced.
+     */
+    private void skipFinishedSegments(){
+        boolean moved = false;
+        while(live.size() > 1 && live.peekFirst().buffer.getInt(headOffset) == END_OF_SEGMENT){
+            released.addLast(live.pollFirst());
+            headOffset = SEGMENT_HEADER;
+            moved = true;
+        }
+        if(moved){
+            writeCheckpoint();
+        }
+    }
+
+    private byte[] readRecord(Segment segment, int offset){
+        byte[] record = new byte[segment.buffer.getInt(offset) - 1];
+        ByteBuffer source = segment.buffer.duplicate();
+        source.position(offset + RECORD_HEADER);
+        source.get(record);
+        return record;
+    }
+
+    /**
+     * Reuses a consumed segment when one is available, forcing the checkpoint first if the only
+     * candidates were consumed after the last forced checkpoint. The first record header is cleared
+     * before the new id is written, so a crash in between leaves either a free segment or an empty
+     * live one, and both are forced before the segment can become the head.
+     */
+    private Segment obtainSegment(int id){
+        if(free.isEmpty() && !released.isEmpty()){
+            forceCheckpoint();
+        }
+        Segment segment = free.pollFirst();
+        if(segment == null){
+            try{
+                segment = new Segment(map(directory.resolve(SEGMENT_PREFIX + nextFileNumber++ + SEGMENT_SUFFIX), segmentSize));
+            } catch(IOException e){
+                throw new UncheckedIOException("Failed to create segment in " + directory, e);
+            }
+        }
+        segment.buffer.putInt(SEGMENT_HEADER, UNWRITTEN);
+        segment.buffer.putInt(0, id);
+        segment.id = id;
+        segment.buffer.force();
+        return segment;
+    }
+
+    private void writeCheckpoint(){
+        checkpoint.putLong(0, ((long) live.peekFirst().id << 32) | (headOffset & 0xFFFFFFFFL));
+    }
+
+    private void forceCheckpoint(){
+        checkpoint.force();
+        free.addAll(released);
+        released.clear();
+    }
+
+    private void afterOperation(){
+        if(syncInterval > 0 && ++unsyncedOperations >= syncInterval){
+            sync();
+        }
+    }
+
+    private void ensureOpen(){
+        if(closed){
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private static int fileNumber(Path file){
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer map(Path file, int length) throws IOException{
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package inno.intern;
+
+/**
+ * Linked list with an indexable skip-list layer on top of the element chain.
+ * Every express link stores how many positions it spans, so {@code get}, {@code add(int, T)}
+ * and {@code remove(int)} descend the levels in expected O(log n) instead of walking the chain.
+ * <p>
+ * Positions count from the head sentinel (position 0), so the element at index {@code i} sits
+ * at position {@code i + 1}. Links that run off the end store no width; the position of the last
+ * node of every level is tracked instead, which keeps {@code addLast}/{@code removeLast} at the
+ * height of the node being linked. Head widths and those tail positions are stored relative to
+ * {@code headShift}, so {@code addFirst}/{@code removeFirst} shift them all by touching one counter.
+ */
+public class IndexedLinkedList<T>{
+
+    private static final int MAX_LEVEL = 32;
+
+    private static class Node<T>{
+        T data;
+        final Node<T>[] next;
+        final Node<T>[] prev;
+        final int[] width;
+
+        @SuppressWarnings("unchecked")
+        Node(T data, int height){
+            this.data = data;
+            this.next = (Node<T>[]) new Node[height];
+            this.prev = (Node<T>[]) new Node[height];
+            this.width = new int[height];
+        }
+
+        int height(){
+            return next.length;
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final Node<T>[] lastAtLevel;
+    private final int[] lastPositionRaw = new int[MAX_LEVEL];
+    private int headShift = 0;
+    private int level = 1;
+    private int size = 0;
+    private long seed = System.nanoTime() | 1L;
+
+    @SuppressWarnings("unchecked")
+    public IndexedLinkedList(){
+        lastAtLevel = (Node<T>[]) new Node[MAX_LEVEL];
+        for(int i = 0; i < MAX_LEVEL; i++){
+            lastAtLevel[i] = head;
+        }
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public void addFirst(T element){
+        Node<T> newNode = new Node<>(element, randomHeight());
+        raiseLevel(newNode.height());
+        headShift++;
+        for(int i = 0; i < newNode.height(); i++){
+            Node<T> successor = head.next[i];
+            newNode.prev[i] = head;
+            newNode.next[i] = successor;
+            head.next[i] = newNode;
+            if(successor == null){
+                lastAtLevel[i] = newNode;
+                setLastPosition(i, 1);
+            } else {
+                successor.prev[i] = newNode;
+                newNode.width[i] = width(head, i) - 1;
+            }
+            setWidth(head, i, 1);
+        }
+        size++;
+    }
+
+    public void addLast(T element){
+        Node<T> newNode = new Node<>(element, randomHeight());
+        raiseLevel(newNode.height());
+        int position = size + 1;
+        for(int i = 0; i < newNode.height(); i++){
+            Node<T> predecessor = lastAtLevel[i];
+            setWidth(predecessor, i, position - lastPosition(i));
+            predecessor.next[i] = newNode;
+            newNode.prev[i] = predecessor;
+            lastAtLevel[i] = newNode;
+            setLastPosition(i, position);
+        }
+        size++;
+    }
+
+    public void add(int index, T element){
+        if (index < 0  || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(index == 0){
+            addFirst(element);
+            return;
+        }
+
+        if(index == size){
+            addLast(element);
+            return;
+        }
+
+        int position = index + 1;
+        Node<T> newNode = new Node<>(element, randomHeight());
+        raiseLevel(newNode.height());
+        Node<T>[] update = newUpdateArray();
+        int[] updatePosition = new int[level];
+        findPredecessors(position, update, updatePosition);
+
+        for(int i = 0; i < level; i++){
+            Node<T> predecessor = update[i];
+            boolean lastIsAfter = lastAtLevel[i] != predecessor;
+            if(i < newNode.height()){
+                Node<T> successor = predecessor.next[i];
+                newNode.prev[i] = predecessor;
+                newNode.next[i] = successor;
+                if(successor == null){
+                    lastAtLevel[i] = newNode;
+                    setLastPosition(i, position);
+                } else {
+                    successor.prev[i] = newNode;
+                    newNode.width[i] = updatePosition[i] + width(predecessor, i) + 1 - position;
+                    setLastPosition(i, lastPosition(i) + 1);
+                }
+                predecessor.next[i] = newNode;
+                setWidth(predecessor, i, position - updatePosition[i]);
+            } else {
+                if(predecessor.next[i] != null){
+                    setWidth(predecessor, i, width(predecessor, i) + 1);
+                }
+                if(lastIsAfter){
+                    setLastPosition(i, lastPosition(i) + 1);
+                }
+            }
+        }
+        size++;
+    }
+
+    public T getFirst(){
+        Node<T> first = head.next[0];
+        if(first == null){
+            return null;
+        }
+        return first.data;
+    }
+
+    public T getLast(){
+        if(size == 0){
+            return null;
+        }
+        return lastAtLevel[0].data;
+    }
+
+    public T get(int index){
+        if(index < 0 ||  index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index == size - 1){
+            return lastAtLevel[0].data;
+        }
+
+        int target = index + 1;
+        Node<T> current = head;
+        int position = 0;
+        for(int i = level - 1; i >= 0; i--){
+            while(current.next[i] != null && position + width(current, i) <= target){
+                position += width(current, i);
+                current = current.next[i];
+            }
+        }
+        return current.data;
+    }
+
+    public T removeFirst(){
+        Node<T> first = head.next[0];
+        if(first == null){
+            return null;
+        }
+
+        headShift--;
+        for(int i = 0; i < first.height(); i++){
+            Node<T> successor = first.next[i];
+            head.next[i] = successor;
+            if(successor == null){
+                lastAtLevel[i] = head;
+            } else {
+                successor.prev[i] = head;
+                setWidth(head, i, first.width[i]);
+            }
+        }
+        size--;
+        lowerLevel();
+        return first.data;
+    }
+
+    public T removeLast(){
+        if(size == 0){
+            return null;
+        }
+
+        Node<T> last = lastAtLevel[0];
+        int position = size;
+        for(int i = 0; i < last.height(); i++){
+            Node<T> predecessor = last.prev[i];
+            int predecessorPosition = position - width(predecessor, i);
+            predecessor.next[i] = null;
+            lastAtLevel[i] = predecessor;
+            setLastPosition(i, predecessorPosition);
+        }
+        size--;
+        lowerLevel();
+        return last.data;
+    }
+
+    public T remove(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index == 0){
+            return removeFirst();
+        }
+
+        if(index == size - 1){
+            return removeLast();
+        }
+
+        Node<T>[] update = newUpdateArray();
+        int[] updatePosition = new int[level];
+        findPredecessors(index + 1, update, updatePosition);
+        Node<T> target = update[0].next[0];
+
+        for(int i = 0; i < level; i++){
+            Node<T> predecessor = update[i];
+            if(i < target.height()){
+                Node<T> successor = target.next[i];
+                predecessor.next[i] = successor;
+                if(successor == null){
+                    lastAtLevel[i] = predecessor;
+                    setLastPosition(i, updatePosition[i]);
+                } else {
+                    successor.prev[i] = predecessor;
+                    setWidth(predecessor, i, width(predecessor, i) + target.width[i] - 1);
+                    setLastPosition(i, lastPosition(i) - 1);
+                }
+            } else {
+                if(predecessor.next[i] != null){
+                    setWidth(predecessor, i, width(predecessor, i) - 1);
+                }
+                if(lastAtLevel[i] != predecessor){
+                    setLastPosition(i, lastPosition(i) - 1);
+                }
+            }
+        }
+        size--;
+        lowerLevel();
+        return target.data;
+    }
+
+    /**
+     * Fills, for every level in use, the last node positioned before {@code position} and its position.
+     */
+    private void findPredecessors(int position, Node<T>[] update, int[] updatePosition){
+        Node<T> current = head;
+        int currentPosition = 0;
+        for(int i = level - 1; i >= 0; i--){
+            while(current.next[i] != null && currentPosition + width(current, i) < position){
+                currentPosition += width(current, i);
+                current = current.next[i];
+            }
+            update[i] = current;
+            updatePosition[i] = currentPosition;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T>[] newUpdateArray(){
+        return (Node<T>[]) new Node[level];
+    }
+
+    private int width(Node<T> node, int level){
+        return node == head ? node.width[level] + headShift : node.width[level];
+    }
+
+    private void setWidth(Node<T> node, int level, int width){
+        node.width[level] = node == head ? width - headShift : width;
+    }
+
+    private int lastPosition(int level){
+        return lastAtLevel[level] == head ? 0 : lastPositionRaw[level] + headShift;
+    }
+
+    private void setLastPosition(int level, int position){
+        lastPositionRaw[level] = position - headShift;
+    }
+
+    private void raiseLevel(int height){
+        if(height > level){
+            level = height;
+        }
+    }
+
+    private void lowerLevel(){
+        while(level > 1 && head.next[level - 1] == null){
+            level--;
+        }
+    }
+
+    /**
+     * Geometric height with p = 1/4, drawn from an xorshift generator.
+     */
+    private int randomHeight(){
+        long x = seed;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        seed = x;
+
+        int height = 1;
+        while((x & 3) == 0 && height < MAX_LEVEL){
+            height++;
+            x >>>= 2;
+        }
+        return height;
+    }
+}
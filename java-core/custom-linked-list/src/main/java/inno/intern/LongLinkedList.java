@@ -0,0 +1,278 @@
+package inno.intern;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@code long}-specialized counterpart of {@link UnrolledLinkedList}. Values live in primitive
+ * chunk arrays, so no {@link Long} is allocated on any operation.
+ * Accessors on an empty list throw {@link NoSuchElementException}, since there is no null to return.
+ */
+public class LongLinkedList{
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    private static class Chunk{
+        final long[] values;
+        int count;
+        Chunk prev;
+        Chunk next;
+
+        Chunk(int capacity){
+            this.values = new long[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+    private Chunk head = null;
+    private Chunk tail = null;
+    private int size = 0;
+
+    public LongLinkedList(){
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public LongLinkedList(int chunkCapacity){
+        if(chunkCapacity < 2){
+            throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public void addFirst(long value){
+        if(head == null || head.count == chunkCapacity){
+            linkBefore(head, new Chunk(chunkCapacity));
+        }
+        insertAt(head, 0, value);
+    }
+
+    public void addLast(long value){
+        if(tail == null || tail.count == chunkCapacity){
+            linkAfter(tail, new Chunk(chunkCapacity));
+        }
+        tail.values[tail.count++] = value;
+        size++;
+    }
+
+    public void add(int index, long value){
+        if (index < 0  || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(index == 0){
+            addFirst(value);
+            return;
+        }
+
+        if(index == size){
+            addLast(value);
+            return;
+        }
+
+        Chunk chunk = head;
+        int offset = index;
+        if(index < (size >> 1)){
+            while(offset >= chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+        } else {
+            chunk = tail;
+            offset = size - index;
+            while(offset > chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.prev;
+            }
+            offset = chunk.count - offset;
+        }
+
+        if(chunk.count == chunkCapacity){
+            Chunk right = split(chunk);
+            if(offset > chunk.count){
+                offset -= chunk.count;
+                chunk = right;
+            }
+        }
+        insertAt(chunk, offset, value);
+    }
+
+    public long getFirst(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        return head.values[0];
+    }
+
+    public long getLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        return tail.values[tail.count - 1];
+    }
+
+    public long get(int index){
+        if(index < 0 ||  index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index < (size >> 1)){
+            Chunk chunk = head;
+            int offset = index;
+            while(offset >= chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+            return chunk.values[offset];
+        }
+
+        Chunk chunk = tail;
+        int offset = size - 1 - index;
+        while(offset >= chunk.count){
+            offset -= chunk.count;
+            chunk = chunk.prev;
+        }
+        return chunk.values[chunk.count - 1 - offset];
+    }
+
+    public long removeFirst(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        return removeAt(head, 0);
+    }
+
+    public long removeLast(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        return removeAt(tail, tail.count - 1);
+    }
+
+    public long remove(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index < (size >> 1)){
+            Chunk chunk = head;
+            int offset = index;
+            while(offset >= chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+            return removeAt(chunk, offset);
+        }
+
+        Chunk chunk = tail;
+        int offset = size - 1 - index;
+        while(offset >= chunk.count){
+            offset -= chunk.count;
+            chunk = chunk.prev;
+        }
+        return removeAt(chunk, chunk.count - 1 - offset);
+    }
+
+    public long[] toArray(){
+        long[] result = new long[size];
+        int position = 0;
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            System.arraycopy(chunk.values, 0, result, position, chunk.count);
+            position += chunk.count;
+        }
+        return result;
+    }
+
+    private void insertAt(Chunk chunk, int offset, long value){
+        System.arraycopy(chunk.values, offset, chunk.values, offset + 1, chunk.count - offset);
+        chunk.values[offset] = value;
+        chunk.count++;
+        size++;
+    }
+
+    private long removeAt(Chunk chunk, int offset){
+        long value = chunk.values[offset];
+        System.arraycopy(chunk.values, offset + 1, chunk.values, offset, chunk.count - offset - 1);
+        chunk.count--;
+        size--;
+
+        if(chunk.count == 0){
+            unlink(chunk);
+        } else if(chunk.count < (chunkCapacity >> 1)){
+            mergeWithNext(chunk);
+        }
+        return value;
+    }
+
+    private Chunk split(Chunk chunk){
+        Chunk right = new Chunk(chunkCapacity);
+        int keep = chunk.count >> 1;
+        right.count = chunk.count - keep;
+        System.arraycopy(chunk.values, keep, right.values, 0, right.count);
+        chunk.count = keep;
+        linkAfter(chunk, right);
+        return right;
+    }
+
+    private void mergeWithNext(Chunk chunk){
+        Chunk next = chunk.next;
+        if(next == null || chunk.count + next.count > chunkCapacity){
+            return;
+        }
+        System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+        chunk.count += next.count;
+        unlink(next);
+    }
+
+    private void linkBefore(Chunk successor, Chunk chunk){
+        if(successor == null){
+            head = chunk;
+            tail = chunk;
+            return;
+        }
+        chunk.next = successor;
+        chunk.prev = successor.prev;
+        if(successor.prev == null){
+            head = chunk;
+        } else {
+            successor.prev.next = chunk;
+        }
+        successor.prev = chunk;
+    }
+
+    private void linkAfter(Chunk predecessor, Chunk chunk){
+        if(predecessor == null){
+            head = chunk;
+            tail = chunk;
+            return;
+        }
+        chunk.prev = predecessor;
+        chunk.next = predecessor.next;
+        if(predecessor.next == null){
+            tail = chunk;
+        } else {
+            predecessor.next.prev = chunk;
+        }
+        predecessor.next = chunk;
+    }
+
+    private void unlink(Chunk chunk){
+        if(chunk.prev == null){
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if(chunk.next == null){
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        chunk.prev = null;
+        chunk.next = null;
+    }
+}
@@ -0,0 +1,251 @@
+package inno.intern;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Doubly linked list of {@code long} records stored outside the Java heap.
+ * Nodes are fixed-width slots in large direct buffers, linked by int slot numbers instead of
+ * references, so the garbage collector only ever sees the handful of segment buffers.
+ * Removed slots go to a free-slot list and are reused by later adds.
+ * <p>
+ * Slot layout: {@code [long value][int prev][int next]}.
+ */
+public class OffHeapLongLinkedList implements AutoCloseable{
+
+    private static final int SLOT_BYTES = 16;
+    private static final int VALUE_OFFSET = 0;
+    private static final int PREV_OFFSET = 8;
+    private static final int NEXT_OFFSET = 12;
+    private static final int NIL = -1;
+
+    private static final int DEFAULT_SEGMENT_SHIFT = 16;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private int segmentCount = 0;
+    private int allocatedSlots = 0;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int freeSlot = NIL;
+    private int size = 0;
+    private boolean closed = false;
+
+    public OffHeapLongLinkedList(){
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * @param segmentShift log2 of the number of slots per native segment
+     */
+    public OffHeapLongLinkedList(int segmentShift){
+        if(segmentShift < 1 || segmentShift > 26){
+            throw new IllegalArgumentException("Segment shift must be between 1 and 26: " + segmentShift);
+        }
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Bytes of native memory currently reserved by the segments.
+     */
+    public long reservedBytes(){
+        return (long) segmentCount * SLOT_BYTES << segmentShift;
+    }
+
+    public void addFirst(long value){
+        int slot = allocateSlot();
+        setValue(slot, value);
+        setPrev(slot, NIL);
+        setNext(slot, head);
+        if(head == NIL){
+            tail = slot;
+        } else {
+            setPrev(head, slot);
+        }
+        head = slot;
+        size++;
+    }
+
+    public void addLast(long value){
+        int slot = allocateSlot();
+        setValue(slot, value);
+        setPrev(slot, tail);
+        setNext(slot, NIL);
+        if(tail == NIL){
+            head = slot;
+        } else {
+            setNext(tail, slot);
+        }
+        tail = slot;
+        size++;
+    }
+
+    public long getFirst(){
+        ensureOpen();
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        return value(head);
+    }
+
+    public long getLast(){
+        ensureOpen();
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        return value(tail);
+    }
+
+    public long get(int index){
+        ensureOpen();
+        if(index < 0 ||  index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index < (size >> 1)){
+            int slot = head;
+            for(int i = 0; i < index; i++){
+                slot = next(slot);
+            }
+            return value(slot);
+        }
+
+        int slot = tail;
+        for(int i = size - 1; i > index; i--){
+            slot = prev(slot);
+        }
+        return value(slot);
+    }
+
+    public long removeFirst(){
+        ensureOpen();
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        int slot = head;
+        long value = value(slot);
+        head = next(slot);
+        if(head == NIL){
+            tail = NIL;
+        } else {
+            setPrev(head, NIL);
+        }
+        releaseSlot(slot);
+        size--;
+        return value;
+    }
+
+    public long removeLast(){
+        ensureOpen();
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        int slot = tail;
+        long value = value(slot);
+        tail = prev(slot);
+        if(tail == NIL){
+            head = NIL;
+        } else {
+            setNext(tail, NIL);
+        }
+        releaseSlot(slot);
+        size--;
+        return value;
+    }
+
+    /**
+     * Drops every segment. The list cannot be used afterwards.
+     */
+    @Override
+    public void close(){
+        if(closed){
+            return;
+        }
+        closed = true;
+        Arrays.fill(segments, null);
+        segments = new ByteBuffer[0];
+        segmentCount = 0;
+        allocatedSlots = 0;
+        head = NIL;
+        tail = NIL;
+        freeSlot = NIL;
+        size = 0;
+    }
+
+    private int allocateSlot(){
+        ensureOpen();
+        if(freeSlot != NIL){
+            int slot = freeSlot;
+            freeSlot = next(slot);
+            return slot;
+        }
+
+        if(allocatedSlots == Integer.MAX_VALUE){
+            throw new IllegalStateException("Slot space exhausted");
+        }
+        if(allocatedSlots == (long) segmentCount << segmentShift){
+            if(segmentCount == segments.length){
+                segments = Arrays.copyOf(segments, segments.length * 2);
+            }
+            segments[segmentCount++] = ByteBuffer.allocateDirect(SLOT_BYTES << segmentShift)
+                    .order(ByteOrder.nativeOrder());
+        }
+        return allocatedSlots++;
+    }
+
+    private void releaseSlot(int slot){
+        setNext(slot, freeSlot);
+        freeSlot = slot;
+    }
+
+    private void ensureOpen(){
+        if(closed){
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private ByteBuffer segment(int slot){
+        return segments[slot >>> segmentShift];
+    }
+
+    private int offset(int slot){
+        return (slot & segmentMask) * SLOT_BYTES;
+    }
+
+    private long value(int slot){
+        return segment(slot).getLong(offset(slot) + VALUE_OFFSET);
+    }
+
+    private int prev(int slot){
+        return segment(slot).getInt(offset(slot) + PREV_OFFSET);
+    }
+
+    private int next(int slot){
+        return segment(slot).getInt(offset(slot) + NEXT_OFFSET);
+    }
+
+    private void setValue(int slot, long value){
+        segment(slot).putLong(offset(slot) + VALUE_OFFSET, value);
+    }
+
+    private void setPrev(int slot, int prev){
+        segment(slot).putInt(offset(slot) + PREV_OFFSET, prev);
+    }
+
+    private void setNext(int slot, int next){
+        segment(slot).putInt(offset(slot) + NEXT_OFFSET, next);
+    }
+}
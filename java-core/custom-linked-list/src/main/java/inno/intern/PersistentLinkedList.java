@@ -0,0 +1,104 @@
+package inno.intern;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable singly linked list. {@code addFirst}, {@code removeFirst} and {@code tail} return new
+ * versions that share every remaining node with the old one, and all fields are final, so any number
+ * of threads can traverse a version without locks while a writer publishes newer versions through a
+ * single volatile reference.
+ */
+public final class PersistentLinkedList<T> implements Iterable<T>{
+
+    private static final PersistentLinkedList<Object> EMPTY = new PersistentLinkedList<>(null, null, 0);
+
+    private final T first;
+    private final PersistentLinkedList<T> rest;
+    private final int size;
+
+    private PersistentLinkedList(T first, PersistentLinkedList<T> rest, int size){
+        this.first = first;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentLinkedList<T> empty(){
+        return (PersistentLinkedList<T>) EMPTY;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public PersistentLinkedList<T> addFirst(T element){
+        return new PersistentLinkedList<>(element, this, size + 1);
+    }
+
+    public T getFirst(){
+        return first;
+    }
+
+    /**
+     * Returns the version without the first element; the empty list is its own tail.
+     */
+    public PersistentLinkedList<T> removeFirst(){
+        return isEmpty() ? this : rest;
+    }
+
+    public PersistentLinkedList<T> tail(){
+        return removeFirst();
+    }
+
+    public T get(int index){
+        if(index < 0 ||  index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        PersistentLinkedList<T> current = this;
+        for(int i = 0; i < index; i++){
+            current = current.rest;
+        }
+        return current.first;
+    }
+
+    @Override
+    public Iterator<T> iterator(){
+        return new Iterator<T>(){
+            private PersistentLinkedList<T> current = PersistentLinkedList.this;
+
+            @Override
+            public boolean hasNext(){
+                return !current.isEmpty();
+            }
+
+            @Override
+            public T next(){
+                if(current.isEmpty()){
+                    throw new NoSuchElementException();
+                }
+                T data = current.first;
+                current = current.rest;
+                return data;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator(){
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -0,0 +1,277 @@
+package inno.intern;
+
+/**
+ * Linked list whose nodes hold a small fixed-capacity array of elements instead of a single one.
+ * Exposes the same API as {@link CustomLinkedList}, but positional access skips whole chunks
+ * and scans touch contiguous memory.
+ */
+public class UnrolledLinkedList<T>{
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    private static class Chunk{
+        final Object[] elements;
+        int count;
+        Chunk prev;
+        Chunk next;
+
+        Chunk(int capacity){
+            this.elements = new Object[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+    private Chunk head = null;
+    private Chunk tail = null;
+    private int size = 0;
+
+    public UnrolledLinkedList(){
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int chunkCapacity){
+        if(chunkCapacity < 2){
+            throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public void addFirst(T element){
+        if(head == null || head.count == chunkCapacity){
+            linkBefore(head, new Chunk(chunkCapacity));
+        }
+        insertAt(head, 0, element);
+    }
+
+    public void addLast(T element){
+        if(tail == null || tail.count == chunkCapacity){
+            linkAfter(tail, new Chunk(chunkCapacity));
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+    }
+
+    public void add(int index, T element){
+        if (index < 0  || index > size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(index == 0){
+            addFirst(element);
+            return;
+        }
+
+        if(index == size){
+            addLast(element);
+            return;
+        }
+
+        Chunk chunk = head;
+        int offset = index;
+        if(index < (size >> 1)){
+            while(offset >= chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+        } else {
+            chunk = tail;
+            offset = size - index;
+            while(offset > chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.prev;
+            }
+            offset = chunk.count - offset;
+        }
+
+        if(chunk.count == chunkCapacity){
+            Chunk right = split(chunk);
+            if(offset > chunk.count){
+                offset -= chunk.count;
+                chunk = right;
+            }
+        }
+        insertAt(chunk, offset, element);
+    }
+
+    public T getFirst(){
+        if(head == null){
+            return null;
+        }
+        return elementAt(head, 0);
+    }
+
+    public T getLast(){
+        if(tail == null){
+            return null;
+        }
+        return elementAt(tail, tail.count - 1);
+    }
+
+    public T get(int index){
+        if(index < 0 ||  index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index < (size >> 1)){
+            Chunk chunk = head;
+            int offset = index;
+            while(offset >= chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+            return elementAt(chunk, offset);
+        }
+
+        Chunk chunk = tail;
+        int offset = size - 1 - index;
+        while(offset >= chunk.count){
+            offset -= chunk.count;
+            chunk = chunk.prev;
+        }
+        return elementAt(chunk, chunk.count - 1 - offset);
+    }
+
+    public T removeFirst(){
+        if(head == null){
+            return null;
+        }
+        return removeAt(head, 0);
+    }
+
+    public T removeLast(){
+        if(tail == null){
+            return null;
+        }
+        return removeAt(tail, tail.count - 1);
+    }
+
+    public T remove(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if(index < (size >> 1)){
+            Chunk chunk = head;
+            int offset = index;
+            while(offset >= chunk.count){
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+            return removeAt(chunk, offset);
+        }
+
+        Chunk chunk = tail;
+        int offset = size - 1 - index;
+        while(offset >= chunk.count){
+            offset -= chunk.count;
+            chunk = chunk.prev;
+        }
+        return removeAt(chunk, chunk.count - 1 - offset);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(Chunk chunk, int offset){
+        return (T) chunk.elements[offset];
+    }
+
+    private void insertAt(Chunk chunk, int offset, T element){
+        System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.count - offset);
+        chunk.elements[offset] = element;
+        chunk.count++;
+        size++;
+    }
+
+    private T removeAt(Chunk chunk, int offset){
+        T data = elementAt(chunk, offset);
+        int moved = chunk.count - offset - 1;
+        System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, moved);
+        chunk.elements[--chunk.count] = null;
+        size--;
+
+        if(chunk.count == 0){
+            unlink(chunk);
+        } else if(chunk.count < (chunkCapacity >> 1)){
+            mergeWithNext(chunk);
+        }
+        return data;
+    }
+
+    /**
+     * Moves the upper half of a full chunk into a new chunk linked right after it.
+     */
+    private Chunk split(Chunk chunk){
+        Chunk right = new Chunk(chunkCapacity);
+        int keep = chunk.count >> 1;
+        right.count = chunk.count - keep;
+        System.arraycopy(chunk.elements, keep, right.elements, 0, right.count);
+        for(int i = keep; i < chunk.count; i++){
+            chunk.elements[i] = null;
+        }
+        chunk.count = keep;
+        linkAfter(chunk, right);
+        return right;
+    }
+
+    /**
+     * Folds the next chunk into an under-filled one when both fit into a single chunk.
+     */
+    private void mergeWithNext(Chunk chunk){
+        Chunk next = chunk.next;
+        if(next == null || chunk.count + next.count > chunkCapacity){
+            return;
+        }
+        System.arraycopy(next.elements, 0, chunk.elements, chunk.count, next.count);
+        chunk.count += next.count;
+        unlink(next);
+    }
+
+    private void linkBefore(Chunk successor, Chunk chunk){
+        if(successor == null){
+            head = chunk;
+            tail = chunk;
+            return;
+        }
+        chunk.next = successor;
+        chunk.prev = successor.prev;
+        if(successor.prev == null){
+            head = chunk;
+        } else {
+            successor.prev.next = chunk;
+        }
+        successor.prev = chunk;
+    }
+
+    private void linkAfter(Chunk predecessor, Chunk chunk){
+        if(predecessor == null){
+            head = chunk;
+            tail = chunk;
+            return;
+        }
+        chunk.prev = predecessor;
+        chunk.next = predecessor.next;
+        if(predecessor.next == null){
+            tail = chunk;
+        } else {
+            predecessor.next.prev = chunk;
+        }
+        predecessor.next = chunk;
+    }
+
+    private void unlink(Chunk chunk){
+        if(chunk.prev == null){
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if(chunk.next == null){
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        chunk.prev = null;
+        chunk.next = null;
+    }
+}
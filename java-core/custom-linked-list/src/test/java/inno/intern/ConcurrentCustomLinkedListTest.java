@@ -0,0 +1,124 @@
+package inno.intern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentCustomLinkedListTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    private ConcurrentCustomLinkedList<Long> concurrentLinkedList;
+
+    @BeforeEach
+    public void setUp() {
+        concurrentLinkedList = new ConcurrentCustomLinkedList<>();
+    }
+
+    @Test
+    void emptyList() {
+        assertTrue(concurrentLinkedList.isEmpty());
+        assertEquals(0, concurrentLinkedList.size());
+        assertNull(concurrentLinkedList.getFirst());
+        assertNull(concurrentLinkedList.removeFirst());
+    }
+
+    @Test
+    void fifoOrderSingleThread() {
+        concurrentLinkedList.addLast(1L);
+        concurrentLinkedList.addLast(2L);
+        concurrentLinkedList.addLast(3L);
+        assertEquals(3, concurrentLinkedList.size());
+        assertEquals(1L, concurrentLinkedList.getFirst());
+        assertEquals(1L, concurrentLinkedList.removeFirst());
+        assertEquals(2L, concurrentLinkedList.removeFirst());
+        assertEquals(3L, concurrentLinkedList.removeFirst());
+        assertNull(concurrentLinkedList.removeFirst());
+        assertTrue(concurrentLinkedList.isEmpty());
+    }
+
+    @Test
+    void rejectsNullElements() {
+        assertThrows(NullPointerException.class, () -> concurrentLinkedList.addLast(null));
+    }
+
+    /**
+     * Every produced element must be consumed exactly once, and each consumer must see the
+     * elements of any single producer in the order they were added.
+     */
+    @Test
+    void concurrentProducersAndConsumers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(PRODUCERS * ELEMENTS_PER_PRODUCER);
+        List<Future<?>> producers = new ArrayList<>();
+        List<Future<List<Long>>> consumers = new ArrayList<>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            long producerId = p;
+            producers.add(executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    concurrentLinkedList.addLast(producerId * ELEMENTS_PER_PRODUCER + i);
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumers.add(executor.submit(() -> {
+                List<Long> taken = new ArrayList<>();
+                start.await();
+                while (remaining.get() > 0) {
+                    Long value = concurrentLinkedList.removeFirst();
+                    if (value != null) {
+                        taken.add(value);
+                        remaining.decrementAndGet();
+                    }
+                }
+                return taken;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> producer : producers) {
+            producer.get(60, TimeUnit.SECONDS);
+        }
+
+        boolean[] seen = new boolean[PRODUCERS * ELEMENTS_PER_PRODUCER];
+        for (Future<List<Long>> consumer : consumers) {
+            long[] lastPerProducer = new long[PRODUCERS];
+            Arrays.fill(lastPerProducer, -1);
+            for (long value : consumer.get(60, TimeUnit.SECONDS)) {
+                int producerId = (int) (value / ELEMENTS_PER_PRODUCER);
+                assertTrue(value > lastPerProducer[producerId], "Out of order element " + value);
+                lastPerProducer[producerId] = value;
+                assertFalse(seen[(int) value], "Duplicate element " + value);
+                seen[(int) value] = true;
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS), "Workers did not terminate");
+
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue(seen[i], "Lost element " + i);
+        }
+        assertTrue(concurrentLinkedList.isEmpty());
+        assertEquals(0, concurrentLinkedList.size());
+    }
+}
@@ -3,7 +3,23 @@ package inno.intern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CustomLinkedListTest {
     private CustomLinkedList<Integer> customLinkedList;
@@ -96,4 +112,284 @@ public class CustomLinkedListTest {
         assertEquals(3, customLinkedList.get(1));
     }
 
+    @Test
+    void getAtIndexFromTailHalf() {
+        for (int i = 0; i < 10; i++) {
+            customLinkedList.addLast(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, customLinkedList.get(i));
+        }
+    }
+
+    @Test
+    void addAtIndexInTailHalf() {
+        customLinkedList.addLast(1);
+        customLinkedList.addLast(2);
+        customLinkedList.addLast(3);
+        customLinkedList.addLast(4);
+        customLinkedList.add(3, 5);
+        assertEquals(5, customLinkedList.size());
+        assertEquals(5, customLinkedList.get(3));
+        assertEquals(4, customLinkedList.get(4));
+        assertEquals(3, customLinkedList.get(2));
+    }
+
+    @Test
+    void removeLastUntilEmpty() {
+        customLinkedList.addLast(1);
+        customLinkedList.addLast(2);
+        customLinkedList.addLast(3);
+        assertEquals(3, customLinkedList.removeLast());
+        assertEquals(2, customLinkedList.removeLast());
+        assertEquals(1, customLinkedList.removeLast());
+        assertEquals(0, customLinkedList.size());
+        assertNull(customLinkedList.removeLast());
+        customLinkedList.addFirst(7);
+        assertEquals(7, customLinkedList.getFirst());
+        assertEquals(7, customLinkedList.getLast());
+    }
+
+    @Test
+    void removeAtIndexInTailHalfKeepsLinks() {
+        for (int i = 0; i < 6; i++) {
+            customLinkedList.addLast(i);
+        }
+        assertEquals(4, customLinkedList.remove(4));
+        assertEquals(5, customLinkedList.removeLast());
+        assertEquals(3, customLinkedList.removeLast());
+        assertEquals(2, customLinkedList.getLast());
+    }
+
+    @Test
+    void iteratorVisitsElementsInOrder() {
+        for (int i = 0; i < 5; i++) {
+            customLinkedList.addLast(i);
+        }
+        int expected = 0;
+        for (Integer value : customLinkedList) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(5, expected);
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        customLinkedList.addLast(1);
+        customLinkedList.addLast(2);
+        Iterator<Integer> iterator = customLinkedList.iterator();
+        iterator.next();
+        customLinkedList.addLast(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void listIteratorEditsAtCursor() {
+        customLinkedList.addLast(1);
+        customLinkedList.addLast(2);
+        customLinkedList.addLast(3);
+        ListIterator<Integer> iterator = customLinkedList.listIterator(1);
+        assertEquals(2, iterator.next());
+        iterator.remove();
+        iterator.add(4);
+        iterator.add(5);
+        assertEquals(3, iterator.next());
+        iterator.set(6);
+        assertEquals(6, iterator.previous());
+        assertEquals(5, iterator.previous());
+        assertEquals(2, iterator.nextIndex());
+        assertEquals(4, customLinkedList.size());
+        assertEquals(Arrays.asList(1, 4, 5, 6), customLinkedList.stream().collect(Collectors.toList()));
+        assertEquals(6, customLinkedList.getLast());
+    }
+
+    @Test
+    void parallelStreamCoversAllElements() {
+        long expected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            customLinkedList.addLast(i);
+            expected += i;
+        }
+        assertEquals(expected, customLinkedList.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(100_000, customLinkedList.stream().count());
+    }
+
+    @Test
+    void pooledListReusesRemovedNodes() {
+        CustomLinkedList<Integer> pooled = new CustomLinkedList<>(2);
+        pooled.addLast(1);
+        pooled.addLast(2);
+        pooled.addLast(3);
+        assertEquals(3, pooled.getPoolMisses());
+        assertEquals(1, pooled.removeFirst());
+        assertEquals(2, pooled.removeFirst());
+        assertEquals(3, pooled.removeFirst());
+        assertEquals(2, pooled.getPooledNodeCount());
+
+        pooled.addLast(4);
+        pooled.addFirst(5);
+        pooled.add(1, 6);
+        assertEquals(2, pooled.getPoolHits());
+        assertEquals(4, pooled.getPoolMisses());
+        assertEquals(0, pooled.getPooledNodeCount());
+        assertEquals(Arrays.asList(5, 6, 4), pooled.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void unpooledListDoesNotCountMisses() {
+        customLinkedList.addLast(1);
+        customLinkedList.removeLast();
+        customLinkedList.addLast(2);
+        assertEquals(0, customLinkedList.getPoolHits());
+        assertEquals(0, customLinkedList.getPoolMisses());
+        assertEquals(0, customLinkedList.getPooledNodeCount());
+    }
+
+    @Test
+    void appendAllStealsNodes() {
+        CustomLinkedList<Integer> other = new CustomLinkedList<>();
+        customLinkedList.addLast(1);
+        other.addLast(2);
+        other.addLast(3);
+        customLinkedList.appendAll(other);
+        assertEquals(3, customLinkedList.size());
+        assertEquals(0, other.size());
+        assertNull(other.getFirst());
+        assertEquals(Arrays.asList(1, 2, 3), customLinkedList.stream().collect(Collectors.toList()));
+        assertEquals(3, customLinkedList.getLast());
+        assertThrows(IllegalArgumentException.class, () -> customLinkedList.appendAll(customLinkedList));
+    }
+
+    @Test
+    void appendAllIntoEmptyList() {
+        CustomLinkedList<Integer> other = new CustomLinkedList<>();
+        other.addAll(new Integer[]{4, 5});
+        customLinkedList.appendAll(other);
+        assertEquals(4, customLinkedList.getFirst());
+        assertEquals(5, customLinkedList.getLast());
+        assertEquals(2, customLinkedList.size());
+    }
+
+    @Test
+    void addAllAndRemoveIf() {
+        customLinkedList.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+        assertTrue(customLinkedList.removeIf(value -> value % 2 == 0));
+        assertEquals(Arrays.asList(1, 3, 5), customLinkedList.stream().collect(Collectors.toList()));
+        assertEquals(5, customLinkedList.getLast());
+        assertFalse(customLinkedList.removeIf(value -> value > 10));
+        assertTrue(customLinkedList.removeIf(value -> true));
+        assertEquals(0, customLinkedList.size());
+        assertNull(customLinkedList.getFirst());
+    }
+
+    @Test
+    void splitAtReturnsTail() {
+        customLinkedList.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        CustomLinkedList<Integer> suffix = customLinkedList.splitAt(3);
+        assertEquals(Arrays.asList(1, 2, 3), customLinkedList.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(4, 5), suffix.stream().collect(Collectors.toList()));
+        assertEquals(3, customLinkedList.getLast());
+        assertEquals(4, suffix.getFirst());
+
+        CustomLinkedList<Integer> everything = customLinkedList.splitAt(0);
+        assertEquals(0, customLinkedList.size());
+        assertEquals(3, everything.size());
+        assertEquals(0, everything.splitAt(3).size());
+    }
+
+    @Test
+    void sortRelinksNodesInOrder() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1_001; i++) {
+            int value = random.nextInt(100);
+            customLinkedList.addLast(value);
+            expected.add(value);
+        }
+        Collections.sort(expected);
+        customLinkedList.sort(null);
+        assertEquals(expected, customLinkedList.stream().collect(Collectors.toList()));
+        assertEquals(99, customLinkedList.removeLast());
+        assertEquals(0, customLinkedList.removeFirst());
+        assertEquals(expected.get(expected.size() - 2), customLinkedList.getLast());
+    }
+
+    @Test
+    void sortIsStable() {
+        CustomLinkedList<String> words = new CustomLinkedList<>();
+        words.addAll(Arrays.asList("bb", "a", "cc", "b", "aa", "c"));
+        words.sort(Comparator.comparingInt(String::length));
+        assertEquals(Arrays.asList("a", "b", "c", "bb", "cc", "aa"), words.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void parallelSortLargeList() {
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            int value = random.nextInt();
+            customLinkedList.addLast(value);
+            expected.add(value);
+        }
+        expected.sort(Comparator.reverseOrder());
+        customLinkedList.parallelSort(Comparator.reverseOrder());
+        assertEquals(expected, customLinkedList.stream().collect(Collectors.toList()));
+        assertEquals(expected.get(expected.size() - 1), customLinkedList.getLast());
+        assertEquals(expected.get(100_000), customLinkedList.get(100_000));
+    }
+
+    @Test
+    void failedSortLeavesListIntact() {
+        assertSortFailureLeavesListIntact(1_000, 3_000, false);
+        assertSortFailureLeavesListIntact(100_000, 500_000, true);
+    }
+
+    private void assertSortFailureLeavesListIntact(int size, int failingCall, boolean parallel) {
+        customLinkedList = new CustomLinkedList<>();
+        Random random = new Random(9);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt();
+            customLinkedList.addLast(value);
+            expected.add(value);
+        }
+        AtomicInteger calls = new AtomicInteger();
+        Comparator<Integer> throwing = (a, b) -> {
+            if (calls.incrementAndGet() == failingCall) {
+                throw new ClassCastException("comparator failed");
+            }
+            return Integer.compare(a, b);
+        };
+
+        assertThrows(ClassCastException.class, () -> {
+            if (parallel) {
+                customLinkedList.parallelSort(throwing);
+            } else {
+                customLinkedList.sort(throwing);
+            }
+        });
+
+        assertEquals(size, customLinkedList.size());
+        assertEquals(expected, customLinkedList.stream().collect(Collectors.toList()));
+        List<Integer> backwards = new ArrayList<>();
+        ListIterator<Integer> iterator = customLinkedList.listIterator(size);
+        while (iterator.hasPrevious()) {
+            backwards.add(iterator.previous());
+        }
+        Collections.reverse(backwards);
+        assertEquals(expected, backwards);
+        assertEquals(expected.get(size - 1), customLinkedList.getLast());
+    }
+
+    @Test
+    void snapshotIsUnaffectedByLaterChanges() {
+        customLinkedList.addAll(Arrays.asList(1, 2, 3));
+        PersistentLinkedList<Integer> snapshot = customLinkedList.snapshot();
+        customLinkedList.removeFirst();
+        customLinkedList.addLast(4);
+        assertEquals(Arrays.asList(1, 2, 3), snapshot.stream().collect(Collectors.toList()));
+        assertEquals(3, snapshot.size());
+        assertEquals(0, new CustomLinkedList<Integer>().snapshot().size());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package inno.intern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DurableLinkedListTest {
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fifoOrder() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            assertNull(list.removeFirst());
+            list.addLast(bytes("a"));
+            list.addLast(bytes("bb"));
+            list.addLast(new byte[0]);
+            assertEquals(3, list.size());
+            assertArrayEquals(bytes("a"), list.getFirst());
+            assertArrayEquals(bytes("a"), list.removeFirst());
+            assertArrayEquals(bytes("bb"), list.removeFirst());
+            assertArrayEquals(new byte[0], list.removeFirst());
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Test
+    void recoversAfterReopen() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 1)) {
+            for (int i = 0; i < 50; i++) {
+                list.addLast(bytes("record-" + i));
+            }
+            for (int i = 0; i < 20; i++) {
+                list.removeFirst();
+            }
+        }
+
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 1)) {
+            assertEquals(30, list.size());
+            assertArrayEquals(bytes("record-20"), list.getFirst());
+            list.addLast(bytes("record-50"));
+            for (int i = 20; i <= 50; i++) {
+                assertArrayEquals(bytes("record-" + i), list.removeFirst());
+            }
+            assertNull(list.removeFirst());
+        }
+    }
+
+    @Test
+    void consumedSegmentsAreRecycled() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            for (int i = 0; i < 10_000; i++) {
+                list.addLast(bytes("value-" + i));
+                assertArrayEquals(bytes("value-" + i), list.removeFirst());
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() <= 3);
+        }
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            assertEquals(0, list.size());
+        }
+    }
+
+    @Test
+    void recoversAfterSyncedChurnThroughRecycledSegments() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            for (int i = 0; i < 1_000; i++) {
+                list.addLast(bytes("value-" + i));
+                if (i % 3 != 0) {
+                    list.removeFirst();
+                }
+                if (i % 97 == 0) {
+                    list.sync();
+                }
+            }
+            list.sync();
+        }
+
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            assertEquals(334, list.size());
+            assertArrayEquals(bytes("value-666"), list.getFirst());
+        }
+    }
+
+    /**
+     * Seven 3-byte records fill a segment. The crash hits after the roll to segment 4 forced its id
+     * but before the end marker in segment 3 reached disk, so recovery stops in segment 3 and segment 4
+     * becomes free. The next roll stamps id 4 again, possibly on another free segment, and every
+     * record synced after that must survive the following restart.
+     */
+    @Test
+    void recoversAfterCrashBetweenRollAndEndMarker() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            for (int i = 0; i < 21; i++) {
+                list.addLast(record(i));
+            }
+            for (int i = 0; i < 14; i++) {
+                list.removeFirst();
+            }
+            list.sync();
+            list.addLast(record(21));
+        }
+        Path oldTail = segmentWithId(3);
+        writeInt(oldTail, endMarkerOffset(oldTail), 0);
+        writeInt(segmentWithId(4), 8, 0);
+
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            assertEquals(7, list.size());
+            assertEquals(List.of(oldTail), segmentsWithIdAtLeast(3));
+            for (int i = 21; i < 35; i++) {
+                list.addLast(record(i));
+            }
+            list.sync();
+        }
+
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            assertEquals(21, list.size());
+            for (int i = 14; i < 35; i++) {
+                assertArrayEquals(record(i), list.removeFirst());
+            }
+        }
+    }
+
+    @Test
+    void rejectsDuplicateSegmentIds() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 1)) {
+            for (int i = 0; i < 10; i++) {
+                list.addLast(record(i));
+            }
+        }
+        Path copy = directory.resolve("segment-9.dat");
+        Files.copy(segmentWithId(2), copy);
+
+        assertThrows(IOException.class, () -> new DurableLinkedList(directory, SEGMENT_SIZE, 1));
+    }
+
+    @Test
+    void rejectsOversizedRecords() throws IOException {
+        try (DurableLinkedList list = new DurableLinkedList(directory, SEGMENT_SIZE, 0)) {
+            assertThrows(IllegalArgumentException.class, () -> list.addLast(new byte[SEGMENT_SIZE]));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] record(int i) {
+        return bytes(String.format("r%02d", i));
+    }
+
+    private Path segmentWithId(int id) throws IOException {
+        List<Path> segments = segmentsWithIdAtLeast(id);
+        assertEquals(id, readInt(segments.get(0), 0));
+        return segments.get(0);
+    }
+
+    private List<Path> segmentsWithIdAtLeast(int id) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                    .filter(file -> readInt(file, 0) >= id)
+                    .sorted((a, b) -> Integer.compare(readInt(a, 0), readInt(b, 0)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int endMarkerOffset(Path segment) {
+        int offset = 8;
+        int header;
+        while ((header = readInt(segment, offset)) > 0) {
+            offset += 4 + header - 1;
+        }
+        assertEquals(-1, header);
+        return offset;
+    }
+
+    private static int readInt(Path file, int offset) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(buffer, offset);
+            return buffer.getInt(0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void writeInt(Path file, int offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), offset);
+        }
+    }
+}
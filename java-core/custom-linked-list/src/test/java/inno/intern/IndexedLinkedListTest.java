@@ -0,0 +1,90 @@
+package inno.intern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IndexedLinkedListTest {
+    private IndexedLinkedList<Integer> indexedLinkedList;
+
+    @BeforeEach
+    public void setUp() {
+        indexedLinkedList = new IndexedLinkedList<>();
+    }
+
+    @Test
+    void sizeIsZero(){
+        assertEquals(0, indexedLinkedList.size());
+        assertNull(indexedLinkedList.getFirst());
+        assertNull(indexedLinkedList.getLast());
+        assertNull(indexedLinkedList.removeFirst());
+        assertNull(indexedLinkedList.removeLast());
+    }
+
+    @Test
+    void addFirstAndAddLast() {
+        for (int i = 0; i < 100; i++) {
+            indexedLinkedList.addFirst(-i);
+            indexedLinkedList.addLast(i);
+        }
+        assertEquals(200, indexedLinkedList.size());
+        assertEquals(-99, indexedLinkedList.getFirst());
+        assertEquals(99, indexedLinkedList.getLast());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(-99 + i, indexedLinkedList.get(i));
+            assertEquals(i, indexedLinkedList.get(100 + i));
+        }
+    }
+
+    @Test
+    void positionalEditsInLargeList() {
+        for (int i = 0; i < 10_000; i++) {
+            indexedLinkedList.addLast(i);
+        }
+        indexedLinkedList.add(5_000, -1);
+        assertEquals(-1, indexedLinkedList.get(5_000));
+        assertEquals(5_000, indexedLinkedList.get(5_001));
+        assertEquals(-1, indexedLinkedList.remove(5_000));
+        assertEquals(7_000, indexedLinkedList.remove(7_000));
+        assertEquals(7_001, indexedLinkedList.get(7_000));
+        assertEquals(9_999, indexedLinkedList.size());
+    }
+
+    @Test
+    void drainFromBothEnds() {
+        for (int i = 0; i < 1_000; i++) {
+            indexedLinkedList.addLast(i);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, indexedLinkedList.removeFirst());
+            assertEquals(999 - i, indexedLinkedList.removeLast());
+        }
+        assertEquals(0, indexedLinkedList.size());
+        assertNull(indexedLinkedList.getFirst());
+        assertNull(indexedLinkedList.getLast());
+        indexedLinkedList.addLast(1);
+        assertEquals(1, indexedLinkedList.get(0));
+    }
+
+    @Test
+    void indexOutOfBounds() {
+        indexedLinkedList.addLast(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> indexedLinkedList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> indexedLinkedList.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> indexedLinkedList.add(2, 3));
+    }
+
+    @Test
+    void matchesLinkedListUnderRandomOperations() {
+        new ListOperations<Integer>(indexedLinkedList::addFirst, indexedLinkedList::addLast, indexedLinkedList::add,
+                indexedLinkedList::getFirst, indexedLinkedList::getLast,
+                indexedLinkedList::removeFirst, indexedLinkedList::removeLast,
+                indexedLinkedList::remove, indexedLinkedList::get, indexedLinkedList::size)
+                .assertMatchesLinkedList(42, 50_000, Random::nextInt);
+    }
+}
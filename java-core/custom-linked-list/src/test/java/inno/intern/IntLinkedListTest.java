@@ -0,0 +1,46 @@
+package inno.intern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntLinkedListTest {
+    private IntLinkedList intLinkedList;
+    private ListOperations<Integer> operations;
+
+    @BeforeEach
+    public void setUp() {
+        intLinkedList = new IntLinkedList(4);
+        operations = new ListOperations<>(intLinkedList::addFirst, intLinkedList::addLast, intLinkedList::add,
+                intLinkedList::getFirst, intLinkedList::getLast, intLinkedList::removeFirst, intLinkedList::removeLast,
+                intLinkedList::remove, intLinkedList::get, intLinkedList::size);
+    }
+
+    @Test
+    void emptyListThrowsOnAccess() {
+        assertTrue(intLinkedList.isEmpty());
+        operations.assertThrowsWhenEmpty();
+    }
+
+    @Test
+    void addAndGet() {
+        intLinkedList.addLast(2);
+        intLinkedList.addFirst(1);
+        intLinkedList.addLast(4);
+        intLinkedList.add(2, 3);
+        assertEquals(4, intLinkedList.size());
+        assertEquals(1, intLinkedList.getFirst());
+        assertEquals(4, intLinkedList.getLast());
+        assertArrayEquals(new int[]{1, 2, 3, 4}, intLinkedList.toArray());
+    }
+
+    @Test
+    void matchesLinkedListUnderRandomOperations() {
+        operations.assertMatchesLinkedList(7, 20_000, Random::nextInt);
+    }
+}
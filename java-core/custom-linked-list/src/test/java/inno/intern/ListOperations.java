@@ -0,0 +1,93 @@
+package inno.intern;
+
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Shared checks for the list implementations, which have the same methods but no common interface.
+ * Each test wires its list in with method references.
+ */
+class ListOperations<E> {
+    private final Consumer<E> addFirst;
+    private final Consumer<E> addLast;
+    private final BiConsumer<Integer, E> add;
+    private final Supplier<E> getFirst;
+    private final Supplier<E> getLast;
+    private final Supplier<E> removeFirst;
+    private final Supplier<E> removeLast;
+    private final IntFunction<E> remove;
+    private final IntFunction<E> get;
+    private final IntSupplier size;
+
+    ListOperations(Consumer<E> addFirst, Consumer<E> addLast, BiConsumer<Integer, E> add,
+                   Supplier<E> getFirst, Supplier<E> getLast, Supplier<E> removeFirst, Supplier<E> removeLast,
+                   IntFunction<E> remove, IntFunction<E> get, IntSupplier size) {
+        this.addFirst = addFirst;
+        this.addLast = addLast;
+        this.add = add;
+        this.getFirst = getFirst;
+        this.getLast = getLast;
+        this.removeFirst = removeFirst;
+        this.removeLast = removeLast;
+        this.remove = remove;
+        this.get = get;
+        this.size = size;
+    }
+
+    /**
+     * Applies the same random mix of adds, removes and reads to the list and to a {@link LinkedList}
+     * and checks that every result and the size agree after each step.
+     */
+    void assertMatchesLinkedList(long seed, int steps, Function<Random, E> values) {
+        LinkedList<E> expected = new LinkedList<>();
+        Random random = new Random(seed);
+        for (int step = 0; step < steps; step++) {
+            int op = random.nextInt(7);
+            E value = values.apply(random);
+            if (op == 0) {
+                addFirst.accept(value);
+                expected.addFirst(value);
+            } else if (op == 1) {
+                addLast.accept(value);
+                expected.addLast(value);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                add.accept(index, value);
+                expected.add(index, value);
+            } else if (expected.isEmpty()) {
+                continue;
+            } else if (op == 3) {
+                assertEquals(expected.removeFirst(), removeFirst.get());
+            } else if (op == 4) {
+                assertEquals(expected.removeLast(), removeLast.get());
+            } else if (op == 5) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), remove.apply(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), get.apply(index));
+            }
+            assertEquals(expected.size(), size.getAsInt());
+        }
+    }
+
+    /**
+     * For the lists that throw instead of returning {@code null} when empty.
+     */
+    void assertThrowsWhenEmpty() {
+        assertThrows(NoSuchElementException.class, getFirst::get);
+        assertThrows(NoSuchElementException.class, getLast::get);
+        assertThrows(NoSuchElementException.class, removeFirst::get);
+        assertThrows(NoSuchElementException.class, removeLast::get);
+    }
+}
@@ -0,0 +1,46 @@
+package inno.intern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongLinkedListTest {
+    private LongLinkedList longLinkedList;
+    private ListOperations<Long> operations;
+
+    @BeforeEach
+    public void setUp() {
+        longLinkedList = new LongLinkedList(4);
+        operations = new ListOperations<>(longLinkedList::addFirst, longLinkedList::addLast, longLinkedList::add,
+                longLinkedList::getFirst, longLinkedList::getLast, longLinkedList::removeFirst, longLinkedList::removeLast,
+                longLinkedList::remove, longLinkedList::get, longLinkedList::size);
+    }
+
+    @Test
+    void emptyListThrowsOnAccess() {
+        assertTrue(longLinkedList.isEmpty());
+        operations.assertThrowsWhenEmpty();
+    }
+
+    @Test
+    void addAndGet() {
+        longLinkedList.addLast(2);
+        longLinkedList.addFirst(1);
+        longLinkedList.addLast(4);
+        longLinkedList.add(2, 3);
+        assertEquals(4, longLinkedList.size());
+        assertEquals(1, longLinkedList.getFirst());
+        assertEquals(4, longLinkedList.getLast());
+        assertArrayEquals(new long[]{1, 2, 3, 4}, longLinkedList.toArray());
+    }
+
+    @Test
+    void matchesLinkedListUnderRandomOperations() {
+        operations.assertMatchesLinkedList(11, 20_000, Random::nextLong);
+    }
+}
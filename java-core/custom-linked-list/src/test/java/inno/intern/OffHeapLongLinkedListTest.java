@@ -0,0 +1,72 @@
+package inno.intern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapLongLinkedListTest {
+    private OffHeapLongLinkedList offHeapLinkedList;
+
+    @BeforeEach
+    public void setUp() {
+        offHeapLinkedList = new OffHeapLongLinkedList(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        offHeapLinkedList.close();
+    }
+
+    @Test
+    void emptyListThrowsOnAccess() {
+        assertTrue(offHeapLinkedList.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> offHeapLinkedList.getFirst());
+        assertThrows(NoSuchElementException.class, () -> offHeapLinkedList.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> offHeapLinkedList.removeLast());
+    }
+
+    @Test
+    void addAndGetAcrossSegments() {
+        for (long i = 0; i < 100; i++) {
+            offHeapLinkedList.addLast(i);
+        }
+        offHeapLinkedList.addFirst(-1);
+        assertEquals(101, offHeapLinkedList.size());
+        assertEquals(-1, offHeapLinkedList.getFirst());
+        assertEquals(99, offHeapLinkedList.getLast());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, offHeapLinkedList.get(i + 1));
+        }
+    }
+
+    @Test
+    void removedSlotsAreReused() {
+        for (long i = 0; i < 16; i++) {
+            offHeapLinkedList.addLast(i);
+        }
+        long reserved = offHeapLinkedList.reservedBytes();
+        for (long i = 0; i < 1_000; i++) {
+            assertEquals(i, offHeapLinkedList.removeFirst());
+            offHeapLinkedList.addLast(i + 16);
+        }
+        assertEquals(reserved, offHeapLinkedList.reservedBytes());
+        assertEquals(1_015, offHeapLinkedList.removeLast());
+        assertEquals(1_000, offHeapLinkedList.getFirst());
+        assertEquals(15, offHeapLinkedList.size());
+    }
+
+    @Test
+    void closedListRejectsAccess() {
+        offHeapLinkedList.addLast(1);
+        offHeapLinkedList.close();
+        assertEquals(0, offHeapLinkedList.reservedBytes());
+        assertThrows(IllegalStateException.class, () -> offHeapLinkedList.addLast(2));
+        assertThrows(IllegalStateException.class, () -> offHeapLinkedList.getFirst());
+    }
+}
@@ -0,0 +1,76 @@
+package inno.intern;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistentLinkedListTest {
+
+    @Test
+    void emptyList() {
+        PersistentLinkedList<Integer> empty = PersistentLinkedList.empty();
+        assertTrue(empty.isEmpty());
+        assertNull(empty.getFirst());
+        assertSame(empty, empty.removeFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+    }
+
+    @Test
+    void versionsShareStructure() {
+        PersistentLinkedList<Integer> base = PersistentLinkedList.<Integer>empty().addFirst(3).addFirst(2);
+        PersistentLinkedList<Integer> left = base.addFirst(1);
+        PersistentLinkedList<Integer> right = base.addFirst(10);
+
+        assertSame(base, left.tail());
+        assertSame(base, right.removeFirst());
+        assertEquals(Arrays.asList(1, 2, 3), left.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(10, 2, 3), right.stream().collect(Collectors.toList()));
+        assertEquals(2, base.size());
+        assertEquals(3, left.get(2));
+    }
+
+    @Test
+    void readersSeeConsistentVersions() throws Exception {
+        VersionHolder holder = new VersionHolder();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    PersistentLinkedList<Integer> version = holder.current;
+                    int expected = version.size();
+                    for (Integer value : version) {
+                        assertEquals(expected--, value);
+                    }
+                    assertEquals(0, expected);
+                }
+                return null;
+            }));
+        }
+        for (int i = 1; i <= 5_000; i++) {
+            holder.current = holder.current.addFirst(i);
+        }
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(5_000, holder.current.size());
+    }
+
+    private static class VersionHolder {
+        volatile PersistentLinkedList<Integer> current = PersistentLinkedList.empty();
+    }
+}
@@ -0,0 +1,84 @@
+package inno.intern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UnrolledLinkedListTest {
+    private UnrolledLinkedList<Integer> unrolledLinkedList;
+
+    @BeforeEach
+    public void setUp() {
+        unrolledLinkedList = new UnrolledLinkedList<>(4);
+    }
+
+    @Test
+    void sizeIsZero(){
+        assertEquals(0, unrolledLinkedList.size());
+        assertNull(unrolledLinkedList.getFirst());
+        assertNull(unrolledLinkedList.getLast());
+        assertNull(unrolledLinkedList.removeFirst());
+        assertNull(unrolledLinkedList.removeLast());
+    }
+
+    @Test
+    void addFirstAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            unrolledLinkedList.addFirst(i);
+        }
+        assertEquals(10, unrolledLinkedList.size());
+        assertEquals(9, unrolledLinkedList.getFirst());
+        assertEquals(0, unrolledLinkedList.getLast());
+        assertEquals(5, unrolledLinkedList.get(4));
+    }
+
+    @Test
+    void addAtIndexSplitsFullChunk() {
+        for (int i = 0; i < 4; i++) {
+            unrolledLinkedList.addLast(i);
+        }
+        unrolledLinkedList.add(1, 10);
+        unrolledLinkedList.add(4, 11);
+        assertEquals(6, unrolledLinkedList.size());
+        int[] expected = {0, 10, 1, 2, 11, 3};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], unrolledLinkedList.get(i));
+        }
+    }
+
+    @Test
+    void removeAtIndexMergesChunks() {
+        for (int i = 0; i < 12; i++) {
+            unrolledLinkedList.addLast(i);
+        }
+        assertEquals(5, unrolledLinkedList.remove(5));
+        assertEquals(4, unrolledLinkedList.remove(4));
+        assertEquals(6, unrolledLinkedList.remove(4));
+        assertEquals(9, unrolledLinkedList.size());
+        assertEquals(7, unrolledLinkedList.get(4));
+        assertEquals(11, unrolledLinkedList.removeLast());
+        assertEquals(0, unrolledLinkedList.removeFirst());
+    }
+
+    @Test
+    void indexOutOfBounds() {
+        unrolledLinkedList.addLast(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> unrolledLinkedList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> unrolledLinkedList.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> unrolledLinkedList.add(2, 3));
+    }
+
+    @Test
+    void matchesLinkedListUnderRandomOperations() {
+        new ListOperations<Integer>(unrolledLinkedList::addFirst, unrolledLinkedList::addLast, unrolledLinkedList::add,
+                unrolledLinkedList::getFirst, unrolledLinkedList::getLast,
+                unrolledLinkedList::removeFirst, unrolledLinkedList::removeLast,
+                unrolledLinkedList::remove, unrolledLinkedList::get, unrolledLinkedList::size)
+                .assertMatchesLinkedList(42, 20_000, Random::nextInt);
+    }
+}
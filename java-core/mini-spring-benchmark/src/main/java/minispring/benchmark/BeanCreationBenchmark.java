@@ -0,0 +1,84 @@
+package minispring.benchmark;
+
+import minispring.annotations.Autowired;
+import minispring.core.BeanDefinition;
+import minispring.core.InjectionPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates a bean and injects its one dependency in three ways: plain code ({@code new} plus a
+ * setter), reflection, and the generated instantiator and setter handle cached in
+ * {@link BeanDefinition}. Every arm does the same work: one allocation and one field write.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCreationBenchmark {
+    private final Dependency dependency = new Dependency();
+
+    private Constructor<Bean> constructor;
+    private Field field;
+    private BeanDefinition definition;
+    private InjectionPoint injectionPoint;
+
+    @Setup(Level.Trial)
+    public void prepare() throws ReflectiveOperationException {
+        constructor = Bean.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        field = Bean.class.getDeclaredField("dependency");
+        field.setAccessible(true);
+
+        definition = new BeanDefinition(Bean.class);
+        injectionPoint = definition.getInjectionPoints().get(0);
+    }
+
+    @Benchmark
+    public Object direct() {
+        Bean bean = new Bean();
+        bean.setDependency(dependency);
+        return bean;
+    }
+
+    @Benchmark
+    public Object reflection() throws ReflectiveOperationException {
+        Bean bean = constructor.newInstance();
+        field.set(bean, dependency);
+        return bean;
+    }
+
+    @Benchmark
+    public Object generated() {
+        Object bean = definition.getInstantiator().get();
+        injectionPoint.inject(bean, dependency);
+        return bean;
+    }
+
+    public static class Dependency {
+    }
+
+    public static class Bean {
+        @Autowired
+        private Dependency dependency;
+
+        public void setDependency(Dependency dependency) {
+            this.dependency = dependency;
+        }
+    }
+}
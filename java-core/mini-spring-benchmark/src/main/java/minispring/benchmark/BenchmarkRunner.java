@@ -0,0 +1,29 @@
+package minispring.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the bean creation benchmarks with the GC profiler attached, so every result carries the
+ * allocation rate next to the time per operation. Results are also written to
+ * {@code benchmark-results.json}.
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [benchmark regexp]}. Other JMH options are available
+ * through the standard runner, e.g.
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main BeanCreationBenchmark -prof gc}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "minispring.benchmark.*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("benchmark-results.json")
+                .build();
+        new Runner(options).run();
+    }
+}
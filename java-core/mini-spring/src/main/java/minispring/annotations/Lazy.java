@@ -0,0 +1,16 @@
+package minispring.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Creates the singleton on first use instead of at startup. A bean that injects it through an
+ * interface gets a proxy that creates it on the first call; a bean that injects it by its class
+ * creates it right away.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Lazy {
+}
@@ -9,4 +9,9 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 public @interface Scope {
     String value() default "singleton";
+
+    /**
+     * Idle instances kept for reuse by a {@code "pooled"} bean.
+     */
+    int poolSize() default 16;
 }
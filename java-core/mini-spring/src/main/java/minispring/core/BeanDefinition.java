@@ -0,0 +1,287 @@
+package minispring.core;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+import minispring.annotations.Lazy;
+import minispring.annotations.Primary;
+import minispring.annotations.Scope;
+import minispring.lifecycle.InitializingBean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Everything the context needs to create a component, resolved once at scan time
+ * so that {@code getBean} never has to go back to reflection discovery.
+ */
+public class BeanDefinition {
+    public static final String SCOPE_SINGLETON = "singleton";
+    public static final String SCOPE_PROTOTYPE = "prototype";
+    public static final String SCOPE_POOLED = "pooled";
+    public static final int DEFAULT_POOL_SIZE = 16;
+
+    private final Class<?> beanClass;
+    private final String beanName;
+    private final String scope;
+    private final int poolSize;
+    private final boolean lazy;
+    private final boolean primary;
+    private final List<DependencyDescriptor> constructorArguments;
+    private final Supplier<Object> instantiator;
+    private final MethodHandle argumentInstantiator;
+    private final List<InjectionPoint> injectionPoints;
+    private final List<DependencyDescriptor> dependencies;
+    private final boolean initializingBean;
+
+    public BeanDefinition(Class<?> beanClass) throws ReflectiveOperationException {
+        this(beanClass, selectConstructor(beanClass));
+    }
+
+    private BeanDefinition(Class<?> beanClass, Constructor<?> constructor) throws ReflectiveOperationException {
+        this(beanClass, componentName(beanClass), scopeOf(beanClass), poolSizeOf(beanClass),
+                beanClass.isAnnotationPresent(Lazy.class), beanClass.isAnnotationPresent(Primary.class),
+                constructor, argumentsOf(constructor), autowiredFields(beanClass));
+    }
+
+    /**
+     * Builds a definition from metadata that was resolved earlier, e.g. read from a
+     * {@link ContextSnapshot}, without looking at any annotation.
+     */
+    public BeanDefinition(Class<?> beanClass, String beanName, String scope, int poolSize, boolean lazy, boolean primary,
+                          Constructor<?> constructor, List<DependencyDescriptor> constructorArguments,
+                          Map<Field, DependencyDescriptor> autowiredFields) throws ReflectiveOperationException {
+        this.beanClass = beanClass;
+        this.beanName = beanName;
+        this.scope = scope;
+        this.poolSize = poolSize;
+        this.lazy = lazy;
+        this.primary = primary;
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup());
+        this.constructorArguments = List.copyOf(constructorArguments);
+        if (this.constructorArguments.isEmpty()) {
+            this.instantiator = createInstantiator(lookup, constructor);
+            this.argumentInstantiator = null;
+        } else {
+            this.instantiator = null;
+            this.argumentInstantiator = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, this.constructorArguments.size())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        }
+
+        List<InjectionPoint> points = new ArrayList<>();
+        for (Map.Entry<Field, DependencyDescriptor> autowiredField : autowiredFields.entrySet()) {
+            points.add(new InjectionPoint(autowiredField.getKey(), autowiredField.getValue(), lookup));
+        }
+        this.injectionPoints = Collections.unmodifiableList(points);
+
+        List<DependencyDescriptor> dependencies = new ArrayList<>(this.constructorArguments);
+        for (InjectionPoint point : injectionPoints) {
+            dependencies.add(point.getDependency());
+        }
+        this.dependencies = Collections.unmodifiableList(dependencies);
+
+        this.initializingBean = InitializingBean.class.isAssignableFrom(beanClass);
+    }
+
+    private static String componentName(Class<?> beanClass) {
+        Component component = beanClass.getAnnotation(Component.class);
+        return component == null || component.value().isEmpty() ? defaultBeanName(beanClass) : component.value();
+    }
+
+    private static String scopeOf(Class<?> beanClass) {
+        Scope scopeAnnotation = beanClass.getAnnotation(Scope.class);
+        return scopeAnnotation == null ? SCOPE_SINGLETON : scopeAnnotation.value().toLowerCase(Locale.ROOT);
+    }
+
+    private static int poolSizeOf(Class<?> beanClass) {
+        Scope scopeAnnotation = beanClass.getAnnotation(Scope.class);
+        return scopeAnnotation == null ? DEFAULT_POOL_SIZE : scopeAnnotation.poolSize();
+    }
+
+    private static List<DependencyDescriptor> argumentsOf(Constructor<?> constructor) {
+        List<DependencyDescriptor> arguments = new ArrayList<>();
+        for (Parameter parameter : constructor.getParameters()) {
+            arguments.add(DependencyDescriptor.of(parameter.getType(), parameter));
+        }
+        return arguments;
+    }
+
+    private static Map<Field, DependencyDescriptor> autowiredFields(Class<?> beanClass) {
+        Map<Field, DependencyDescriptor> fields = new LinkedHashMap<>();
+        for (Field field : beanClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Autowired.class)) {
+                fields.put(field, DependencyDescriptor.of(field.getType(), field));
+            }
+        }
+        return fields;
+    }
+
+    private static String defaultBeanName(Class<?> beanClass) {
+        String simpleName = beanClass.getSimpleName();
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+
+    /**
+     * The constructor marked {@code @Autowired}, otherwise the only declared constructor, otherwise
+     * the no-arg one. Several constructors without either are rejected rather than guessed between.
+     */
+    private static Constructor<?> selectConstructor(Class<?> beanClass) {
+        Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+        Constructor<?> selected = null;
+        for (Constructor<?> candidate : constructors) {
+            if (candidate.isAnnotationPresent(Autowired.class)) {
+                if (selected != null) {
+                    throw new IllegalStateException("More than one @Autowired constructor in " + beanClass.getName());
+                }
+                selected = candidate;
+            }
+        }
+        if (selected != null) {
+            return selected;
+        }
+        if (constructors.length == 1) {
+            return constructors[0];
+        }
+        for (Constructor<?> candidate : constructors) {
+            if (candidate.getParameterCount() == 0) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException(beanClass.getName() + " has " + constructors.length
+                + " constructors and none is @Autowired or takes no arguments; mark the one to use @Autowired");
+    }
+
+    /**
+     * Spins a {@link Supplier} that calls the no-arg constructor directly, so creating a bean
+     * costs about as much as {@code new}. Falls back to invoking the constructor handle if the
+     * metafactory rejects the class.
+     */
+    @SuppressWarnings("unchecked")
+    private Supplier<Object> createInstantiator(MethodHandles.Lookup lookup, Constructor<?> noArgConstructor) throws ReflectiveOperationException {
+        MethodHandle constructor = lookup.unreflectConstructor(noArgConstructor);
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(beanClass));
+            return (Supplier<Object>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            return handleInstantiator(constructor, beanClass);
+        }
+    }
+
+    /**
+     * Invokes the no-arg constructor handle on every call.
+     */
+    static Supplier<Object> handleInstantiator(MethodHandle constructor, Class<?> beanClass) {
+        MethodHandle genericConstructor = constructor.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return genericConstructor.invokeExact();
+            } catch (Throwable t) {
+                throw new RuntimeException("Failed to instantiate bean: " + beanClass.getName(), t);
+            }
+        };
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public boolean isPrototype() {
+        return SCOPE_PROTOTYPE.equals(scope);
+    }
+
+    /**
+     * Instances are borrowed from a {@link BeanPool} and handed back with
+     * {@link MiniApplicationContext#releaseBean(Object)}.
+     */
+    public boolean isPooled() {
+        return SCOPE_POOLED.equals(scope);
+    }
+
+    public boolean isSingleton() {
+        return !isPrototype() && !isPooled();
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * A singleton that is only created when it is first requested. Prototype and pooled beans are always created on request.
+     */
+    public boolean isLazy() {
+        return lazy && isSingleton();
+    }
+
+    /**
+     * The no-arg instantiator, or {@code null} when the bean is created through constructor injection.
+     */
+    public Supplier<Object> getInstantiator() {
+        return instantiator;
+    }
+
+    /**
+     * The wiring plan for the constructor: one dependency per argument, in order.
+     */
+    public List<DependencyDescriptor> getConstructorArguments() {
+        return constructorArguments;
+    }
+
+    /**
+     * Creates the bean with a single call to the cached constructor handle.
+     */
+    public Object instantiate(Object[] arguments) {
+        if (argumentInstantiator == null) {
+            return instantiator.get();
+        }
+        try {
+            return argumentInstantiator.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to instantiate bean: " + beanClass.getName(), e);
+        }
+    }
+
+    public List<InjectionPoint> getInjectionPoints() {
+        return injectionPoints;
+    }
+
+    /**
+     * Constructor arguments followed by {@code @Autowired} fields.
+     */
+    public List<DependencyDescriptor> getDependencies() {
+        return dependencies;
+    }
+
+    public boolean isInitializingBean() {
+        return initializingBean;
+    }
+}
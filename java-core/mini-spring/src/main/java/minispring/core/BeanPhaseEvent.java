@@ -0,0 +1,67 @@
+package minispring.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collection;
+
+/**
+ * JFR event for one startup phase: the classpath scan, or the instantiation, injection or
+ * {@code afterPropertiesSet} of a single bean. Also measures the phase for {@link StartupMetrics}.
+ */
+@Name("minispring.BeanPhase")
+@Label("Bean Phase")
+@Category("Mini Spring")
+@Description("A phase of component scanning or bean creation in MiniApplicationContext")
+public class BeanPhaseEvent extends jdk.jfr.Event {
+    public static final String SCAN = "scan";
+    public static final String REGISTER = "register";
+    public static final String INSTANTIATE = "instantiate";
+    public static final String INJECT = "inject";
+    public static final String AFTER_PROPERTIES_SET = "afterPropertiesSet";
+
+    @Label("Bean")
+    private final String beanName;
+
+    @Label("Phase")
+    private final String phase;
+
+    @Label("Dependency Path")
+    private String dependencyPath = "";
+
+    private transient long startNanos;
+
+    private BeanPhaseEvent(String beanName, String phase) {
+        this.beanName = beanName;
+        this.phase = phase;
+    }
+
+    public static BeanPhaseEvent start(String beanName, String phase) {
+        BeanPhaseEvent event = new BeanPhaseEvent(beanName, phase);
+        event.begin();
+        event.startNanos = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * The path is only joined into the event when JFR is recording it.
+     */
+    public static BeanPhaseEvent start(String beanName, String phase, Collection<String> dependencyPath) {
+        BeanPhaseEvent event = start(beanName, phase);
+        if (event.isEnabled()) {
+            event.dependencyPath = String.join(" -> ", dependencyPath);
+        }
+        return event;
+    }
+
+    /**
+     * Commits the event if JFR is recording it and returns the phase duration in nanoseconds.
+     */
+    public long stop() {
+        long elapsed = System.nanoTime() - startNanos;
+        commit();
+        return elapsed;
+    }
+}
@@ -0,0 +1,103 @@
+package minispring.core;
+
+import minispring.lifecycle.PoolableBean;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Instances of a {@code @Scope("pooled")} bean. {@link #borrow()} hands out an idle instance, or
+ * creates one (constructor, injection and {@code afterPropertiesSet}) when none is idle, so callers
+ * never wait. {@link #release(Object)} resets the instance if it is a {@link PoolableBean} and keeps
+ * it for reuse; at most {@code maxIdle} instances are kept and any surplus is dropped.
+ * <p>
+ * Borrowed instances are tracked by identity, so releasing an instance twice, or one this pool
+ * never handed out, is rejected instead of putting the same object in the idle queue again.
+ */
+public class BeanPool {
+    private final Supplier<Object> factory;
+    private final int maxIdle;
+    private final BlockingQueue<Object> idle;
+    private final Set<Object> borrowed = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    public BeanPool(Supplier<Object> factory, int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxIdle);
+        }
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    public Object borrow() {
+        Object bean = idle.poll();
+        if (bean == null) {
+            bean = factory.get();
+            created.increment();
+        } else {
+            reused.increment();
+        }
+        borrowed.add(bean);
+        return bean;
+    }
+
+    /**
+     * An instance whose reset hook throws is dropped rather than handed out again.
+     *
+     * @throws IllegalArgumentException if {@code bean} is not currently borrowed from this pool
+     */
+    public void release(Object bean) {
+        if (!borrowed.remove(bean)) {
+            throw new IllegalArgumentException("Bean is not borrowed from this pool: " + bean);
+        }
+        if (bean instanceof PoolableBean) {
+            try {
+                ((PoolableBean) bean).reset();
+            } catch (RuntimeException e) {
+                discarded.increment();
+                throw e;
+            }
+        }
+        if (!idle.offer(bean)) {
+            discarded.increment();
+        }
+    }
+
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getBorrowedCount() {
+        return borrowed.size();
+    }
+
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BeanPool{idle=" + getIdleCount() + "/" + maxIdle + ", borrowed=" + getBorrowedCount()
+                + ", created=" + getCreatedCount() + ", reused=" + getReusedCount() + ", discarded=" + getDiscardedCount() + "}";
+    }
+}
@@ -0,0 +1,69 @@
+package minispring.core;
+
+import java.util.List;
+
+/**
+ * How long each phase of creating one bean took, and which chain of beans was being created when it
+ * was requested. The path ends with the bean itself.
+ */
+public class BeanStartupTiming {
+    private final String beanName;
+    private final Class<?> beanClass;
+    private final List<String> dependencyPath;
+    private final String threadName;
+    private final long registrationNanos;
+    private final long instantiationNanos;
+    private final long injectionNanos;
+    private final long afterPropertiesSetNanos;
+
+    public BeanStartupTiming(String beanName, Class<?> beanClass, List<String> dependencyPath, String threadName,
+                             long registrationNanos, long instantiationNanos, long injectionNanos, long afterPropertiesSetNanos) {
+        this.beanName = beanName;
+        this.beanClass = beanClass;
+        this.dependencyPath = List.copyOf(dependencyPath);
+        this.threadName = threadName;
+        this.registrationNanos = registrationNanos;
+        this.instantiationNanos = instantiationNanos;
+        this.injectionNanos = injectionNanos;
+        this.afterPropertiesSetNanos = afterPropertiesSetNanos;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public List<String> getDependencyPath() {
+        return dependencyPath;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Time spent introspecting the component into its {@link BeanDefinition} during the scan.
+     */
+    public long getRegistrationNanos() {
+        return registrationNanos;
+    }
+
+    public long getInstantiationNanos() {
+        return instantiationNanos;
+    }
+
+    public long getInjectionNanos() {
+        return injectionNanos;
+    }
+
+    public long getAfterPropertiesSetNanos() {
+        return afterPropertiesSetNanos;
+    }
+
+    public long getTotalNanos() {
+        return registrationNanos + instantiationNanos + injectionNanos + afterPropertiesSetNanos;
+    }
+}
@@ -1,13 +1,45 @@
 package minispring.core;
 
-import java.io.File;
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Finds the classes of a package in every classpath root that contains it: output directories,
+ * jars and jars nested inside jars ({@code jar:file:/app.jar!/lib/inner.jar!/pkg}). Archives are
+ * opened through the NIO zip file system. Classes are loaded in parallel without being initialized.
+ */
 public class ClasspathScanner {
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String ARCHIVE_SEPARATOR = "!/";
 
     public static Set<Class<?>> findClasses(String packageName) {
+        return findClasses(packageName, root -> true);
+    }
+
+    /**
+     * Only scans the roots whose package directory URL, e.g. {@code file:/app/classes/com/example},
+     * is accepted by {@code rootFilter}.
+     */
+    public static Set<Class<?>> findClasses(String packageName, Predicate<URL> rootFilter) {
         Set<Class<?>> classes = new HashSet<>();
         String packagePath = packageName.replace('.', '/');
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
@@ -17,19 +49,26 @@ public class ClasspathScanner {
         }
 
         try {
-            URL resource = classLoader.getResource(packagePath);
+            Enumeration<URL> resources = classLoader.getResources(packagePath);
 
-            if (resource == null) {
+            if (!resources.hasMoreElements()) {
                 System.err.println("Package not found on classpath: " + packageName);
                 return classes;
             }
 
-            File directory = new File(resource.getFile());
-
-            if (directory.exists()) {
-                scanDirectory(directory, packageName, classes);
+            Set<String> classNames = new HashSet<>();
+            while (resources.hasMoreElements()) {
+                URL root = resources.nextElement();
+                if (rootFilter.test(root)) {
+                    collectClassNames(root, packageName, classNames);
+                }
             }
 
+            classes.addAll(classNames.parallelStream()
+                    .map(className -> loadClass(className, classLoader))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet()));
+
         } catch (Exception e) {
             System.err.println("Error during classpath scanning: " + e.getMessage());
             e.printStackTrace();
@@ -37,22 +76,77 @@ public class ClasspathScanner {
         return classes;
     }
 
-    private static void scanDirectory(File directory, String packageName, Set<Class<?>> classes) {
-        File[] files = directory.listFiles();
-        if (files == null) return;
-
-        for (File file : files) {
-            if (file.isDirectory()) {
-                scanDirectory(file, packageName + "." + file.getName(), classes);
-            } else if (file.getName().endsWith(".class")) {
-                String className = file.getName().substring(0, file.getName().length() - 6);
-                try {
-                    String fullyQualifiedName = packageName + "." + className;
-                    Class<?> clazz = Class.forName(fullyQualifiedName);
-                    classes.add(clazz);
-                } catch (ClassNotFoundException e) {
+    private static void collectClassNames(URL resource, String packageName, Set<String> classNames) throws Exception {
+        URI uri = resource.toURI();
+
+        if ("file".equals(uri.getScheme())) {
+            scanDirectory(Paths.get(uri), packageName, classNames);
+        } else if ("jar".equals(uri.getScheme())) {
+            scanArchive(uri.getRawSchemeSpecificPart(), packageName, classNames);
+        } else {
+            System.err.println("Unsupported classpath root: " + resource);
+        }
+    }
+
+    /**
+     * Opens the outer archive and every nested archive named in the URL, then scans the package
+     * directory inside the innermost one. {@code location} is still percent-encoded: the outer part
+     * is parsed as a file URI and only the entry names inside the archives are decoded.
+     */
+    private static void scanArchive(String location, String packageName, Set<String> classNames) throws IOException {
+        String[] parts = location.split(ARCHIVE_SEPARATOR);
+        Deque<FileSystem> openedFileSystems = new ArrayDeque<>();
+        try {
+            FileSystem archive = FileSystems.newFileSystem(Paths.get(URI.create(parts[0])), (ClassLoader) null);
+            openedFileSystems.push(archive);
+            Path current = archive.getPath("/");
+
+            for (int i = 1; i < parts.length; i++) {
+                current = current.resolve(decode(parts[i]));
+                if (i < parts.length - 1 && Files.isRegularFile(current)) {
+                    FileSystem nested = FileSystems.newFileSystem(current, (ClassLoader) null);
+                    openedFileSystems.push(nested);
+                    current = nested.getPath("/");
                 }
             }
+
+            scanDirectory(current, packageName, classNames);
+        } finally {
+            while (!openedFileSystems.isEmpty()) {
+                openedFileSystems.pop().close();
+            }
+        }
+    }
+
+    private static String decode(String entryName) {
+        return URLDecoder.decode(entryName.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    private static void scanDirectory(Path directory, String packageName, Set<String> classNames) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Path> classFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.getFileName() != null && file.getFileName().toString().endsWith(CLASS_SUFFIX))
+                    .forEach(classFiles::add);
+        }
+
+        for (Path classFile : classFiles) {
+            String relativePath = directory.relativize(classFile).toString().replace(classFile.getFileSystem().getSeparator(), ".");
+            String className = packageName + "." + relativePath.substring(0, relativePath.length() - CLASS_SUFFIX.length());
+            if (!className.endsWith("-info")) {
+                classNames.add(className);
+            }
+        }
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package minispring.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads the component lists written by {@code ComponentIndexProcessor}. Every jar or output
+ * directory on the classpath may contribute its own index file. An index only speaks for the root it
+ * was found in, so roots without one, e.g. built without the processor, are still scanned.
+ */
+public class ComponentIndex {
+    public static final String INDEX_LOCATION = "META-INF/minispring.components";
+
+    /**
+     * The component candidates under the given package, loaded without initializing them: the classes
+     * the indexes list, plus every class of the package found by {@link ClasspathScanner} in roots
+     * that have no usable index.
+     */
+    public static Set<Class<?>> findComponents(String packageName) {
+        Set<Class<?>> classes = new HashSet<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null) {
+            return classes;
+        }
+
+        Set<String> indexedRoots = new HashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try {
+                    Set<Class<?>> indexed = readIndex(index, packageName, classLoader);
+                    indexedRoots.add(rootOf(index, INDEX_LOCATION));
+                    if (!indexed.isEmpty()) {
+                        System.out.println("Using component index: " + index);
+                        classes.addAll(indexed);
+                    }
+                } catch (IOException | ClassNotFoundException | LinkageError e) {
+                    System.err.println("Ignoring component index " + index + ", scanning its root instead: " + e);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading component indexes: " + e.getMessage());
+        }
+
+        String packagePath = packageName.replace('.', '/');
+        classes.addAll(ClasspathScanner.findClasses(packageName, root -> !indexedRoots.contains(rootOf(root, packagePath))));
+        return classes;
+    }
+
+    private static Set<Class<?>> readIndex(URL index, String packageName, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        Set<Class<?>> classes = new HashSet<>();
+        String prefix = packageName + ".";
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String className = line.trim();
+                if (className.startsWith(prefix)) {
+                    classes.add(Class.forName(className, false, classLoader));
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * The classpath root a resource was found in, e.g. {@code file:/app/classes/} or {@code jar:file:/app.jar!/}.
+     */
+    private static String rootOf(URL resource, String path) {
+        String url = resource.toString();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url.endsWith(path) ? url.substring(0, url.length() - path.length()) : url;
+    }
+}
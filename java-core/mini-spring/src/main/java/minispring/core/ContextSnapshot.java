@@ -0,0 +1,206 @@
+package minispring.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Ahead-of-time record of a scanned context: every component with its name, scope, flags,
+ * constructor wiring plan and {@code @Autowired} fields. A later start with the same classpath
+ * rebuilds its {@link BeanDefinition}s from this file without running {@link ClasspathScanner}
+ * or reading annotations.
+ * <p>
+ * The file is keyed by a hash of the base package and of the size and modification time of every
+ * classpath jar and of every file under the package in classpath directories, so any rebuild
+ * invalidates it. The format is plain text, one record per line:
+ * <pre>
+ * minispring-snapshot 3
+ * key &lt;hash&gt;
+ * bean &lt;class&gt; &lt;name&gt; &lt;scope&gt; &lt;pool size&gt; &lt;lazy&gt; &lt;primary&gt;
+ * arg &lt;type&gt; &lt;qualifier&gt;
+ * field &lt;name&gt; &lt;type&gt; &lt;qualifier&gt;
+ * end
+ * </pre>
+ * Values are tab separated and a missing qualifier is written as {@code -}. A file without the
+ * closing {@code end} record was cut short and is ignored.
+ */
+public class ContextSnapshot {
+    private static final String HEADER = "minispring-snapshot 3";
+    private static final String END = "end";
+    private static final String NO_QUALIFIER = "-";
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * The definitions stored in {@code file}, or {@code null} when the file is missing, truncated or
+     * corrupt, was written for a different classpath, or can no longer be resolved.
+     */
+    public static List<BeanDefinition> load(Path file, String key, ClassLoader classLoader) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine()) || !("key" + SEPARATOR + key).equals(reader.readLine())) {
+                return null;
+            }
+
+            List<BeanDefinition> definitions = new ArrayList<>();
+            List<String> bean = null;
+            List<DependencyDescriptor> arguments = new ArrayList<>();
+            List<String[]> fields = new ArrayList<>();
+
+            String line;
+            while (!END.equals(line = reader.readLine())) {
+                if (line == null) {
+                    return null;
+                }
+                String[] record = line.split(SEPARATOR);
+                switch (record[0]) {
+                    case "bean":
+                        if (bean != null) {
+                            definitions.add(toDefinition(bean, arguments, fields, classLoader));
+                        }
+                        bean = List.of(record);
+                        arguments = new ArrayList<>();
+                        fields = new ArrayList<>();
+                        break;
+                    case "arg":
+                        arguments.add(new DependencyDescriptor(Class.forName(record[1], false, classLoader), qualifier(record[2])));
+                        break;
+                    case "field":
+                        fields.add(record);
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            if (bean != null) {
+                definitions.add(toDefinition(bean, arguments, fields, classLoader));
+            }
+            return reader.readLine() == null ? definitions : null;
+        } catch (IOException | ReflectiveOperationException | LinkageError | RuntimeException e) {
+            System.err.println("Ignoring unusable context snapshot " + file + ": " + e);
+            return null;
+        }
+    }
+
+    private static BeanDefinition toDefinition(List<String> bean, List<DependencyDescriptor> arguments, List<String[]> fields,
+                                               ClassLoader classLoader) throws ReflectiveOperationException {
+        Class<?> beanClass = Class.forName(bean.get(1), false, classLoader);
+
+        Class<?>[] argumentTypes = arguments.stream().map(DependencyDescriptor::getType).toArray(Class<?>[]::new);
+        Constructor<?> constructor = beanClass.getDeclaredConstructor(argumentTypes);
+
+        Map<Field, DependencyDescriptor> autowiredFields = new LinkedHashMap<>();
+        for (String[] field : fields) {
+            autowiredFields.put(beanClass.getDeclaredField(field[1]),
+                    new DependencyDescriptor(Class.forName(field[2], false, classLoader), qualifier(field[3])));
+        }
+
+        return new BeanDefinition(beanClass, bean.get(2), bean.get(3), Integer.parseInt(bean.get(4)),
+                Boolean.parseBoolean(bean.get(5)), Boolean.parseBoolean(bean.get(6)), constructor, arguments, autowiredFields);
+    }
+
+    /**
+     * Writes the snapshot to a temporary file next to {@code file} and moves it into place, so a
+     * concurrent start never reads half a snapshot.
+     */
+    public static void write(Path file, String key, Collection<BeanDefinition> definitions) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write(HEADER + "\n");
+            writer.write(String.join(SEPARATOR, "key", key) + "\n");
+            for (BeanDefinition definition : definitions) {
+                writer.write(String.join(SEPARATOR, "bean", definition.getBeanClass().getName(), definition.getBeanName(),
+                        definition.getScope(), String.valueOf(definition.getPoolSize()),
+                        String.valueOf(definition.isLazy()), String.valueOf(definition.isPrimary())) + "\n");
+                for (DependencyDescriptor argument : definition.getConstructorArguments()) {
+                    writer.write(String.join(SEPARATOR, "arg", argument.getType().getName(), qualifier(argument)) + "\n");
+                }
+                for (InjectionPoint injectionPoint : definition.getInjectionPoints()) {
+                    writer.write(String.join(SEPARATOR, "field", injectionPoint.getField().getName(),
+                            injectionPoint.getType().getName(), qualifier(injectionPoint.getDependency())) + "\n");
+                }
+            }
+            writer.write(END + "\n");
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Hash of everything on {@code java.class.path} that can change the components of {@code basePackage}.
+     */
+    public static String classpathKey(String basePackage) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, basePackage);
+
+        String packagePath = basePackage.replace('.', '/');
+        for (String entry : System.getProperty("java.class.path", "").split(java.io.File.pathSeparator)) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            Path root = Paths.get(entry);
+            update(digest, entry);
+            if (Files.isDirectory(root)) {
+                Path packageDirectory = root.resolve(packagePath);
+                if (Files.isDirectory(packageDirectory)) {
+                    try (Stream<Path> files = Files.walk(packageDirectory)) {
+                        for (Path path : (Iterable<Path>) files.sorted()::iterator) {
+                            update(digest, root.relativize(path).toString());
+                            update(digest, Files.readAttributes(path, BasicFileAttributes.class));
+                        }
+                    }
+                }
+            } else if (Files.exists(root)) {
+                update(digest, Files.readAttributes(root, BasicFileAttributes.class));
+            }
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    private static void update(MessageDigest digest, BasicFileAttributes attributes) {
+        update(digest, attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String qualifier(DependencyDescriptor dependency) {
+        return dependency.getQualifier() == null ? NO_QUALIFIER : dependency.getQualifier();
+    }
+
+    private static String qualifier(String value) {
+        return NO_QUALIFIER.equals(value) ? null : value;
+    }
+}
@@ -0,0 +1,39 @@
+package minispring.core;
+
+import minispring.annotations.Qualifier;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * The bean type a constructor argument or field asks for, and the bean name from its {@code @Qualifier}, if any.
+ */
+public class DependencyDescriptor {
+    private final Class<?> type;
+    private final String qualifier;
+
+    public DependencyDescriptor(Class<?> type, String qualifier) {
+        this.type = type;
+        this.qualifier = qualifier;
+    }
+
+    /**
+     * Reads the qualifier from the {@code @Qualifier} on a field or constructor parameter.
+     */
+    public static DependencyDescriptor of(Class<?> type, AnnotatedElement element) {
+        Qualifier qualifierAnnotation = element.getAnnotation(Qualifier.class);
+        return new DependencyDescriptor(type, qualifierAnnotation == null ? null : qualifierAnnotation.value());
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String getQualifier() {
+        return qualifier;
+    }
+
+    @Override
+    public String toString() {
+        return qualifier == null ? type.getName() : type.getName() + " '" + qualifier + "'";
+    }
+}
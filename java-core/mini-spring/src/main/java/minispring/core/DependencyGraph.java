@@ -0,0 +1,92 @@
+package minispring.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The constructor and {@code @Autowired} field edges between registered components, built once before any bean is created.
+ * Dependencies on types that are not registered are left out; {@code getBean} reports them when the
+ * field is injected.
+ */
+public class DependencyGraph {
+    private final Map<BeanDefinition, List<BeanDefinition>> dependencies = new LinkedHashMap<>();
+    private final List<BeanDefinition> topologicalOrder;
+
+    public DependencyGraph(Collection<BeanDefinition> beanDefinitions, TypeIndex typeIndex) {
+        for (BeanDefinition definition : beanDefinitions) {
+            List<BeanDefinition> edges = new ArrayList<>();
+            for (DependencyDescriptor descriptor : definition.getDependencies()) {
+                BeanDefinition dependency = typeIndex.find(descriptor.getType(), descriptor.getQualifier());
+                if (dependency != null && !edges.contains(dependency)) {
+                    edges.add(dependency);
+                }
+            }
+            dependencies.put(definition, Collections.unmodifiableList(edges));
+        }
+        this.topologicalOrder = Collections.unmodifiableList(sort());
+    }
+
+    public List<BeanDefinition> getDependencies(BeanDefinition definition) {
+        return dependencies.getOrDefault(definition, Collections.emptyList());
+    }
+
+    /**
+     * Every definition after all of its dependencies.
+     */
+    public List<BeanDefinition> getTopologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /**
+     * Depth-first post-order. A definition met again while it is still on the path closes a cycle,
+     * which is reported with the whole path, e.g. {@code A -> B -> A}.
+     */
+    private List<BeanDefinition> sort() {
+        List<BeanDefinition> order = new ArrayList<>(dependencies.size());
+        Set<BeanDefinition> visited = new HashSet<>();
+        Set<BeanDefinition> onPath = new HashSet<>();
+        Deque<BeanDefinition> path = new ArrayDeque<>();
+
+        for (BeanDefinition definition : dependencies.keySet()) {
+            visit(definition, visited, onPath, path, order);
+        }
+        return order;
+    }
+
+    private void visit(BeanDefinition definition, Set<BeanDefinition> visited, Set<BeanDefinition> onPath,
+                       Deque<BeanDefinition> path, List<BeanDefinition> order) {
+        if (visited.contains(definition)) {
+            return;
+        }
+        path.addLast(definition);
+        if (!onPath.add(definition)) {
+            throw new IllegalStateException("Circular dependency: " + describeCycle(path));
+        }
+
+        for (BeanDefinition dependency : getDependencies(definition)) {
+            visit(dependency, visited, onPath, path, order);
+        }
+
+        onPath.remove(definition);
+        path.removeLast();
+        visited.add(definition);
+        order.add(definition);
+    }
+
+    private static String describeCycle(Deque<BeanDefinition> path) {
+        List<BeanDefinition> nodes = new ArrayList<>(path);
+        BeanDefinition repeated = nodes.get(nodes.size() - 1);
+        return nodes.subList(nodes.indexOf(repeated), nodes.size()).stream()
+                .map(definition -> definition.getBeanClass().getSimpleName())
+                .collect(Collectors.joining(" -> "));
+    }
+}
@@ -0,0 +1,46 @@
+package minispring.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * An {@code @Autowired} field together with a cached setter handle.
+ */
+public class InjectionPoint {
+    private final Field field;
+    private final DependencyDescriptor dependency;
+    private final MethodHandle setter;
+
+    public InjectionPoint(Field field, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        this(field, DependencyDescriptor.of(field.getType(), field), lookup);
+    }
+
+    public InjectionPoint(Field field, DependencyDescriptor dependency, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        this.field = field;
+        this.dependency = dependency;
+        this.setter = lookup.unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    public DependencyDescriptor getDependency() {
+        return dependency;
+    }
+
+    public void inject(Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to inject field: " + field, e);
+        }
+    }
+}
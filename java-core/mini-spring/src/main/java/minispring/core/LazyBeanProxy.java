@@ -0,0 +1,59 @@
+package minispring.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Stands in for a lazy singleton behind one of its interfaces. The real bean is looked up on the
+ * first call of an interface method and every later call goes straight to it.
+ * <p>
+ * {@code equals} and {@code hashCode} are answered by the proxy itself, by identity, and
+ * {@code toString} only shows the bean once it exists, so logging the proxy or putting it in a
+ * collection does not create the bean.
+ */
+public class LazyBeanProxy implements InvocationHandler {
+    private final Class<?> interfaceType;
+    private final Supplier<Object> resolver;
+    private volatile Object target;
+
+    private LazyBeanProxy(Class<?> interfaceType, Supplier<Object> resolver) {
+        this.interfaceType = interfaceType;
+        this.resolver = resolver;
+    }
+
+    public static Object create(Class<?> interfaceType, Supplier<Object> resolver) {
+        return Proxy.newProxyInstance(interfaceType.getClassLoader(), new Class<?>[]{interfaceType}, new LazyBeanProxy(interfaceType, resolver));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    Object resolved = target;
+                    return resolved == null ? "Lazy " + interfaceType.getName() + " (not created yet)" : resolved.toString();
+            }
+        }
+        try {
+            return method.invoke(getTarget(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object getTarget() {
+        Object resolved = target;
+        if (resolved == null) {
+            resolved = resolver.get();
+            target = resolved;
+        }
+        return resolved;
+    }
+}
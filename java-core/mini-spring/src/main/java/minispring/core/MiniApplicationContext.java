@@ -1,104 +1,418 @@
 package minispring.core;
 
-import minispring.annotations.Autowired;
 import minispring.annotations.Component;
-import minispring.annotations.Scope;
 import minispring.lifecycle.InitializingBean;
 
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Safe for concurrent use once constructed: created singletons are served by lock-free reads, and a
+ * singleton that is still missing is created under a lock held only for that bean.
+ */
 public class MiniApplicationContext {
-    private final Map<Class<?>, Object> singletonBeans = new HashMap<>();
+    public static final String STARTUP_REPORT_PROPERTY = "minispring.startupReport";
+    public static final String SNAPSHOT_PROPERTY = "minispring.snapshot";
+    public static final String DEBUG_PROPERTY = "minispring.debug";
 
-    private final Map<Class<?>, Class<?>> componentClasses = new HashMap<>();
+    private static final boolean DEBUG = Boolean.getBoolean(DEBUG_PROPERTY);
+
+    private final Map<Class<?>, Object> singletonBeans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, BeanDefinition> beanDefinitions;
+
+    private final TypeIndex typeIndex;
+
+    private final Map<Class<?>, BeanPool> beanPools;
+
+    private final StartupMetrics startupMetrics = new StartupMetrics();
+
+    private final ThreadLocal<Deque<String>> creationPath = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private volatile boolean started;
 
     public MiniApplicationContext(String basePackage) {
-        Set<Class<?>> classes = ClasspathScanner.findClasses(basePackage);
-        registerComponents(classes);
+        long startupStart = System.nanoTime();
+
+        beanDefinitions = loadBeanDefinitions(basePackage);
+        typeIndex = new TypeIndex(beanDefinitions.values());
+        beanPools = createBeanPools();
         instantiateSingletons();
+
+        started = true;
+        startupMetrics.recordStartup(System.nanoTime() - startupStart);
+        writeStartupReport();
+    }
+
+    /**
+     * Per-bean phase timings of this context. Lazy singletons created later are added as they appear.
+     */
+    public StartupMetrics getStartupMetrics() {
+        return startupMetrics;
     }
 
+    /**
+     * Looks the bean up by its class or by any superclass or interface it implements.
+     */
     public <T> T getBean(Class<T> type) {
-        if(singletonBeans.containsKey(type)) {
-            return (T) singletonBeans.get(type);
+        return type.cast(getBean(requireDefinition(type, null)));
+    }
+
+    public <T> T getBean(String name, Class<T> type) {
+        return type.cast(getBean(requireDefinition(type, name)));
+    }
+
+    /**
+     * Hands a bean borrowed from a {@code @Scope("pooled")} pool back for reuse. A bean that is not
+     * currently borrowed, for example one that was already released, is rejected by its pool.
+     */
+    public void releaseBean(Object bean) {
+        BeanPool pool = beanPools.get(bean.getClass());
+        if (pool == null) {
+            throw new RuntimeException("Not a pooled bean: " + bean.getClass().getName());
+        }
+        pool.release(bean);
+    }
+
+    /**
+     * The pool behind a {@code @Scope("pooled")} bean, for its size and reuse counters.
+     */
+    public BeanPool getBeanPool(Class<?> type) {
+        BeanDefinition definition = requireDefinition(type, null);
+        BeanPool pool = beanPools.get(definition.getBeanClass());
+        if (pool == null) {
+            throw new RuntimeException("Not a pooled bean: " + definition.getBeanClass().getName());
         }
+        return pool;
+    }
 
-        if(componentClasses.containsKey(type)) {
-            Class<?> componentClass = componentClasses.get(type);
-            Scope scopeAnnotation = componentClass.getAnnotation(Scope.class);
-            boolean isPrototype = scopeAnnotation != null && "prototype".equalsIgnoreCase(scopeAnnotation.value());
+    private Object getBean(BeanDefinition definition) {
+        Object singleton = singletonBeans.get(definition.getBeanClass());
+        if (singleton != null) {
+            return singleton;
+        }
 
-            try {
-                T bean = (T) createAndInitializeBean(componentClass);
-                if (!isPrototype) {
-                    singletonBeans.put(componentClass, bean);
-                }
-                return bean;
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+        try {
+            if (definition.isPooled()) {
+                return beanPools.get(definition.getBeanClass()).borrow();
             }
+            if (definition.isSingleton()) {
+                return getOrCreateSingleton(definition);
+            }
+            return createAndInitializeBean(definition);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
+    }
 
-        throw new RuntimeException("Bean not found: " + type.getName());
+    private BeanDefinition requireDefinition(Class<?> type, String name) {
+        BeanDefinition definition = typeIndex.find(type, name);
+        if (definition == null) {
+            throw new RuntimeException("Bean not found: " + (name == null ? type.getName() : type.getName() + " '" + name + "'"));
+        }
+        return definition;
     }
 
-    private void registerComponents(Set<Class<?>> classes) {
+    /**
+     * Reads the definitions from the snapshot named by {@value #SNAPSHOT_PROPERTY} when it matches
+     * the current classpath. Otherwise scans and then writes a fresh snapshot for the next start.
+     */
+    private Map<Class<?>, BeanDefinition> loadBeanDefinitions(String basePackage) {
+        String snapshotProperty = System.getProperty(SNAPSHOT_PROPERTY);
+        if (snapshotProperty == null) {
+            return scanAndRegister(basePackage);
+        }
+
+        Path snapshotFile = Paths.get(snapshotProperty);
+        String snapshotKey;
+        try {
+            snapshotKey = ContextSnapshot.classpathKey(basePackage);
+        } catch (IOException e) {
+            System.err.println("Could not hash the classpath, scanning instead: " + e.getMessage());
+            return scanAndRegister(basePackage);
+        }
+
+        BeanPhaseEvent load = BeanPhaseEvent.start(basePackage, BeanPhaseEvent.SCAN);
+        List<BeanDefinition> snapshot = ContextSnapshot.load(snapshotFile, snapshotKey, Thread.currentThread().getContextClassLoader());
+        if (snapshot != null) {
+            startupMetrics.recordScan(load.stop());
+            System.out.println("Using context snapshot: " + snapshotFile);
+            Map<Class<?>, BeanDefinition> beanDefinitions = new HashMap<>();
+            for (BeanDefinition definition : snapshot) {
+                beanDefinitions.put(definition.getBeanClass(), definition);
+            }
+            return Collections.unmodifiableMap(beanDefinitions);
+        }
+
+        Map<Class<?>, BeanDefinition> beanDefinitions = scanAndRegister(basePackage);
+        try {
+            ContextSnapshot.write(snapshotFile, snapshotKey, beanDefinitions.values());
+            System.out.println("Context snapshot written to: " + snapshotFile);
+        } catch (IOException e) {
+            System.err.println("Could not write context snapshot: " + e.getMessage());
+        }
+        return beanDefinitions;
+    }
+
+    private Map<Class<?>, BeanDefinition> scanAndRegister(String basePackage) {
+        BeanPhaseEvent scan = BeanPhaseEvent.start(basePackage, BeanPhaseEvent.SCAN);
+        Set<Class<?>> classes = ComponentIndex.findComponents(basePackage);
+        startupMetrics.recordScan(scan.stop());
+
+        return registerComponents(classes);
+    }
+
+    /**
+     * A pooled bean injected into another bean is borrowed once and never returned, like a prototype.
+     */
+    private Map<Class<?>, BeanPool> createBeanPools() {
+        Map<Class<?>, BeanPool> pools = new HashMap<>();
+        for (BeanDefinition definition : beanDefinitions.values()) {
+            if (definition.isPooled()) {
+                pools.put(definition.getBeanClass(), new BeanPool(() -> {
+                    try {
+                        return createAndInitializeBean(definition);
+                    } catch (Exception e) {
+                        throw new RuntimeException("Failed to create pooled bean: " + definition.getBeanClass().getName(), e);
+                    }
+                }, definition.getPoolSize()));
+            }
+        }
+        return Collections.unmodifiableMap(pools);
+    }
+
+    private Map<Class<?>, BeanDefinition> registerComponents(Set<Class<?>> classes) {
+        Map<Class<?>, BeanDefinition> beanDefinitions = new HashMap<>();
         for (Class<?> clazz : classes) {
             if (clazz.isAnnotationPresent(Component.class)) {
-                componentClasses.put(clazz, clazz);
+                try {
+                    BeanPhaseEvent registration = BeanPhaseEvent.start(clazz.getName(), BeanPhaseEvent.REGISTER);
+                    beanDefinitions.put(clazz, new BeanDefinition(clazz));
+                    startupMetrics.recordRegistration(clazz, registration.stop());
+                } catch (ReflectiveOperationException e) {
+                    throw new RuntimeException("Component has no usable constructor: " + clazz.getName(), e);
+                }
                 System.out.println("Found component: " + clazz.getName());
             }
         }
+        return Collections.unmodifiableMap(beanDefinitions);
     }
 
+    /**
+     * Walks the dependency graph in topological order and schedules each singleton on the common
+     * ForkJoin pool as soon as everything it depends on exists, so independent beans (and their
+     * {@code afterPropertiesSet} hooks) are created in parallel and startup takes as long as the
+     * slowest dependency chain. Prototypes and lazy singletons are not created here, but a singleton
+     * that injects one still waits for that bean's own dependencies.
+     */
     private void instantiateSingletons() {
-        for (Class<?> clazz : componentClasses.keySet()) {
-            Scope scopeAnnotation = clazz.getAnnotation(Scope.class);
-            boolean isPrototype = scopeAnnotation != null && "prototype".equalsIgnoreCase(scopeAnnotation.value());
+        DependencyGraph graph = new DependencyGraph(beanDefinitions.values(), typeIndex);
+        Map<BeanDefinition, CompletableFuture<Void>> ready = new HashMap<>();
 
-            if (!isPrototype) {
-                try {
-                    Object beanInstance = createAndInitializeBean(clazz);
-                    singletonBeans.put(clazz, beanInstance);
-                    System.out.println("Instantiated singleton: " + clazz.getSimpleName());
-                } catch (Exception e) {
-                    throw new RuntimeException("Failed to instantiate singleton bean: " + clazz.getName(), e);
-                }
+        for (BeanDefinition definition : graph.getTopologicalOrder()) {
+            CompletableFuture<?>[] dependencies = graph.getDependencies(definition).stream()
+                    .map(ready::get)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture<Void> dependenciesReady = CompletableFuture.allOf(dependencies);
+
+            ready.put(definition, definition.isSingleton() && !definition.isLazy()
+                    ? dependenciesReady.thenRunAsync(() -> instantiateSingleton(definition))
+                    : dependenciesReady);
+        }
+
+        try {
+            CompletableFuture.allOf(ready.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
         }
     }
 
-    private Object createAndInitializeBean(Class<?> clazz) throws Exception {
-        Object instance = clazz.getDeclaredConstructor().newInstance();
+    private void instantiateSingleton(BeanDefinition definition) {
+        try {
+            getOrCreateSingleton(definition);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to instantiate singleton bean: " + definition.getBeanClass().getName(), e);
+        }
+    }
 
-        injectDependencies(instance, clazz);
+    /**
+     * Double-checked creation guarded by the bean's own definition, so concurrent callers never
+     * create a second instance and creating one singleton never blocks lookups of another.
+     * The instance is published only after injection and {@code afterPropertiesSet} have run.
+     */
+    private Object getOrCreateSingleton(BeanDefinition definition) throws Exception {
+        Class<?> clazz = definition.getBeanClass();
+        Object singleton = singletonBeans.get(clazz);
+        if (singleton != null) {
+            return singleton;
+        }
 
-        callLifecycleMethods(instance);
+        synchronized (definition) {
+            singleton = singletonBeans.get(clazz);
+            if (singleton == null) {
+                singleton = createAndInitializeBean(definition);
+                singletonBeans.put(clazz, singleton);
+                System.out.println("Instantiated singleton: " + clazz.getSimpleName());
+            }
+            return singleton;
+        }
+    }
 
-        return instance;
+    /**
+     * Beans created while the context starts, and singletons created later, are timed phase by phase
+     * for {@link StartupMetrics} and JFR. A prototype or pooled bean created after startup is on the
+     * hot path of {@code getBean}, so it skips all of that.
+     */
+    private Object createAndInitializeBean(BeanDefinition definition) throws Exception {
+        if (started && !definition.isSingleton()) {
+            Object instance = definition.instantiate(resolveConstructorArguments(definition));
+            injectDependencies(instance, definition, resolveFieldDependencies(definition));
+            if (definition.isInitializingBean()) {
+                callLifecycleMethods(instance);
+            }
+            return instance;
+        }
+        return createAndRecordBean(definition);
     }
 
-    private void injectDependencies(Object instance, Class<?> clazz) throws IllegalAccessException {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Autowired.class)) {
-                Class<?> dependencyType = field.getType();
+    /**
+     * Dependencies are resolved before each timed phase, so a bean created on the way is timed under
+     * its own entry (with this bean on its dependency path) rather than inside this one.
+     */
+    private Object createAndRecordBean(BeanDefinition definition) throws Exception {
+        Deque<String> path = creationPath.get();
+        path.addLast(definition.getBeanName());
+        try {
+            Object[] arguments = resolveConstructorArguments(definition);
+            BeanPhaseEvent instantiation = BeanPhaseEvent.start(definition.getBeanName(), BeanPhaseEvent.INSTANTIATE, path);
+            Object instance = definition.instantiate(arguments);
+            long instantiationNanos = instantiation.stop();
+
+            long injectionNanos = 0;
+            if (!definition.getInjectionPoints().isEmpty()) {
+                Object[] dependencies = resolveFieldDependencies(definition);
+                BeanPhaseEvent injection = BeanPhaseEvent.start(definition.getBeanName(), BeanPhaseEvent.INJECT, path);
+                injectDependencies(instance, definition, dependencies);
+                injectionNanos = injection.stop();
+            }
+
+            long afterPropertiesSetNanos = 0;
+            if (definition.isInitializingBean()) {
+                BeanPhaseEvent initialization = BeanPhaseEvent.start(definition.getBeanName(), BeanPhaseEvent.AFTER_PROPERTIES_SET, path);
+                callLifecycleMethods(instance);
+                afterPropertiesSetNanos = initialization.stop();
+            }
 
-                Object dependency = getBean(dependencyType);
+            startupMetrics.recordBean(new BeanStartupTiming(definition.getBeanName(), definition.getBeanClass(),
+                    new ArrayList<>(path), Thread.currentThread().getName(),
+                    startupMetrics.getRegistrationNanos(definition.getBeanClass()),
+                    instantiationNanos, injectionNanos, afterPropertiesSetNanos));
+            return instance;
+        } finally {
+            path.removeLast();
+        }
+    }
 
-                field.setAccessible(true);
-                field.set(instance, dependency);
-                System.out.println("   -> Injected dependency: " + dependencyType.getSimpleName() + " into " + clazz.getSimpleName());
+    private Object[] resolveConstructorArguments(BeanDefinition definition) {
+        List<DependencyDescriptor> constructorArguments = definition.getConstructorArguments();
+        Object[] arguments = new Object[constructorArguments.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            DependencyDescriptor argument = constructorArguments.get(i);
+            arguments[i] = resolveDependency(argument);
+            if (isLogging()) {
+                System.out.println("   -> Injected constructor argument: " + argument.getType().getSimpleName() + " into " + definition.getBeanClass().getSimpleName());
             }
         }
+        return arguments;
+    }
+
+    private Object[] resolveFieldDependencies(BeanDefinition definition) {
+        List<InjectionPoint> injectionPoints = definition.getInjectionPoints();
+        Object[] dependencies = new Object[injectionPoints.size()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = resolveDependency(injectionPoints.get(i).getDependency());
+        }
+        return dependencies;
+    }
+
+    private void injectDependencies(Object instance, BeanDefinition definition, Object[] dependencies) {
+        List<InjectionPoint> injectionPoints = definition.getInjectionPoints();
+        for (int i = 0; i < dependencies.length; i++) {
+            injectionPoints.get(i).inject(instance, dependencies[i]);
+        }
+
+        if (isLogging()) {
+            for (InjectionPoint injectionPoint : injectionPoints) {
+                System.out.println("   -> Injected dependency: " + injectionPoint.getType().getSimpleName() + " into " + definition.getBeanClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * A lazy singleton that does not exist yet is injected through an interface-typed field as a
+     * {@link LazyBeanProxy}, so it is only created once the owning bean actually calls it. The JDK
+     * cannot subclass a concrete type at runtime, so a class-typed field gets the real bean instead,
+     * which creates it together with the bean that injects it.
+     */
+    private Object resolveDependency(DependencyDescriptor dependency) {
+        Class<?> dependencyType = dependency.getType();
+        BeanDefinition dependencyDefinition = requireDefinition(dependencyType, dependency.getQualifier());
+
+        if (dependencyDefinition.isLazy() && !singletonBeans.containsKey(dependencyDefinition.getBeanClass())) {
+            if (dependencyType.isInterface()) {
+                return LazyBeanProxy.create(dependencyType, () -> getBean(dependencyDefinition));
+            }
+            if (!started) {
+                System.out.println("   -> Creating @Lazy bean " + dependencyDefinition.getBeanClass().getSimpleName()
+                        + " at startup: it is injected by class, not through an interface");
+            }
+        }
+        return getBean(dependencyDefinition);
     }
 
     private void callLifecycleMethods(Object instance) throws Exception {
-        if (instance instanceof InitializingBean) {
+        if (isLogging()) {
             System.out.println("   -> Calling afterPropertiesSet() for " + instance.getClass().getSimpleName());
-            ((InitializingBean) instance).afterPropertiesSet();
+        }
+        ((InitializingBean) instance).afterPropertiesSet();
+    }
+
+    /**
+     * Wiring is logged while the context starts. Beans created later, e.g. each prototype, are only
+     * logged when {@value #DEBUG_PROPERTY} is set, so the log does not slow down every creation.
+     */
+    private boolean isLogging() {
+        return !started || DEBUG;
+    }
+
+    /**
+     * Writes {@link StartupMetrics#toJson()} to the file named by {@value #STARTUP_REPORT_PROPERTY}, if set.
+     */
+    private void writeStartupReport() {
+        String reportFile = System.getProperty(STARTUP_REPORT_PROPERTY);
+        if (reportFile == null) {
+            return;
+        }
+        try {
+            startupMetrics.writeJson(Paths.get(reportFile));
+            System.out.println("Startup report written to: " + reportFile);
+        } catch (IOException e) {
+            System.err.println("Could not write startup report: " + e.getMessage());
         }
     }
 }
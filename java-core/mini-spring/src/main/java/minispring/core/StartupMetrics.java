@@ -0,0 +1,134 @@
+package minispring.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Startup timeline of a {@link MiniApplicationContext}: the classpath scan plus one
+ * {@link BeanStartupTiming} per created bean. Singletons are recorded whenever they are created,
+ * prototypes only while the context is starting. Each phase is also emitted as a {@link BeanPhaseEvent}.
+ */
+public class StartupMetrics {
+    private static final String ROOT_FRAME = "startup";
+
+    private final Map<Class<?>, Long> registrationNanos = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<BeanStartupTiming> beanTimings = new ConcurrentLinkedQueue<>();
+    private volatile long scanNanos;
+    private volatile long startupNanos;
+
+    void recordScan(long nanos) {
+        scanNanos = nanos;
+    }
+
+    void recordRegistration(Class<?> beanClass, long nanos) {
+        registrationNanos.put(beanClass, nanos);
+    }
+
+    void recordBean(BeanStartupTiming timing) {
+        beanTimings.add(timing);
+    }
+
+    void recordStartup(long nanos) {
+        startupNanos = nanos;
+    }
+
+    long getRegistrationNanos(Class<?> beanClass) {
+        return registrationNanos.getOrDefault(beanClass, 0L);
+    }
+
+    public long getScanNanos() {
+        return scanNanos;
+    }
+
+    /**
+     * Wall-clock time of the whole constructor, scan included.
+     */
+    public long getStartupNanos() {
+        return startupNanos;
+    }
+
+    /**
+     * Recorded beans, slowest first.
+     */
+    public List<BeanStartupTiming> getBeanTimings() {
+        List<BeanStartupTiming> timings = new ArrayList<>(beanTimings);
+        timings.sort(Comparator.comparingLong(BeanStartupTiming::getTotalNanos).reversed());
+        return timings;
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"startupNanos\": ").append(startupNanos)
+                .append(",\n  \"scanNanos\": ").append(scanNanos)
+                .append(",\n  \"beans\": [");
+
+        List<BeanStartupTiming> timings = getBeanTimings();
+        for (int i = 0; i < timings.size(); i++) {
+            BeanStartupTiming timing = timings.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"name\": ").append(quote(timing.getBeanName()))
+                    .append(", \"class\": ").append(quote(timing.getBeanClass().getName()))
+                    .append(", \"thread\": ").append(quote(timing.getThreadName()))
+                    .append(", \"registrationNanos\": ").append(timing.getRegistrationNanos())
+                    .append(", \"instantiationNanos\": ").append(timing.getInstantiationNanos())
+                    .append(", \"injectionNanos\": ").append(timing.getInjectionNanos())
+                    .append(", \"afterPropertiesSetNanos\": ").append(timing.getAfterPropertiesSetNanos())
+                    .append(", \"dependencyPath\": [");
+            List<String> path = timing.getDependencyPath();
+            for (int j = 0; j < path.size(); j++) {
+                json.append(j == 0 ? "" : ", ").append(quote(path.get(j)));
+            }
+            json.append("]}");
+        }
+        return json.append(timings.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    /**
+     * One line per bean phase in the folded-stack format read by flame graph tools
+     * ({@code startup;userService;instantiate 1200}), with the dependency path as the stack.
+     */
+    public String toCollapsedStacks() {
+        StringBuilder stacks = new StringBuilder();
+        stacks.append(ROOT_FRAME).append(';').append(BeanPhaseEvent.SCAN).append(' ').append(scanNanos).append('\n');
+        for (BeanStartupTiming timing : getBeanTimings()) {
+            String stack = ROOT_FRAME + ";" + String.join(";", timing.getDependencyPath()) + ";";
+            appendFrame(stacks, stack + BeanPhaseEvent.REGISTER, timing.getRegistrationNanos());
+            appendFrame(stacks, stack + BeanPhaseEvent.INSTANTIATE, timing.getInstantiationNanos());
+            appendFrame(stacks, stack + BeanPhaseEvent.INJECT, timing.getInjectionNanos());
+            appendFrame(stacks, stack + BeanPhaseEvent.AFTER_PROPERTIES_SET, timing.getAfterPropertiesSetNanos());
+        }
+        return stacks.toString();
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.write(file, toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendFrame(StringBuilder stacks, String stack, long nanos) {
+        if (nanos > 0) {
+            stacks.append(stack).append(' ').append(nanos).append('\n');
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
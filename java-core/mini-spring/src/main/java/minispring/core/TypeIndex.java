@@ -0,0 +1,101 @@
+package minispring.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maps every superclass and interface of the registered components to the beans assignable to it.
+ * The bean a plain type lookup resolves to (the only candidate, or the only {@code @Primary} one) is
+ * chosen while the index is built, so a lookup by abstraction is a single hash hit.
+ */
+public class TypeIndex {
+    private final Map<Class<?>, List<BeanDefinition>> candidatesByType = new HashMap<>();
+    private final Map<Class<?>, BeanDefinition> resolvedByType = new HashMap<>();
+    private final Map<String, BeanDefinition> definitionsByName = new HashMap<>();
+
+    public TypeIndex(Collection<BeanDefinition> definitions) {
+        for (BeanDefinition definition : definitions) {
+            BeanDefinition previous = definitionsByName.putIfAbsent(definition.getBeanName(), definition);
+            if (previous != null) {
+                throw new IllegalStateException("Bean name '" + definition.getBeanName() + "' is used by both "
+                        + previous.getBeanClass().getName() + " and " + definition.getBeanClass().getName());
+            }
+
+            for (Class<?> type : assignableTypes(definition.getBeanClass())) {
+                candidatesByType.computeIfAbsent(type, key -> new ArrayList<>()).add(definition);
+            }
+        }
+
+        candidatesByType.forEach((type, candidates) -> {
+            BeanDefinition resolved = choose(candidates);
+            if (resolved != null) {
+                resolvedByType.put(type, resolved);
+            }
+        });
+    }
+
+    /**
+     * The bean to inject for {@code type}, narrowed to the bean named {@code qualifier} when one is
+     * given. Returns {@code null} when nothing matches and fails when several beans match and none of
+     * them is {@code @Primary}.
+     */
+    public BeanDefinition find(Class<?> type, String qualifier) {
+        if (qualifier != null) {
+            BeanDefinition named = definitionsByName.get(qualifier);
+            return named != null && type.isAssignableFrom(named.getBeanClass()) ? named : null;
+        }
+
+        BeanDefinition resolved = resolvedByType.get(type);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        List<BeanDefinition> candidates = candidatesByType.get(type);
+        if (candidates == null) {
+            return null;
+        }
+        throw new IllegalStateException("More than one bean of type " + type.getName() + ": "
+                + candidates.stream().map(BeanDefinition::getBeanName).collect(Collectors.toList())
+                + "; mark one @Primary or add a @Qualifier");
+    }
+
+    private static BeanDefinition choose(List<BeanDefinition> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        BeanDefinition primary = null;
+        for (BeanDefinition candidate : candidates) {
+            if (candidate.isPrimary()) {
+                if (primary != null) {
+                    return null;
+                }
+                primary = candidate;
+            }
+        }
+        return primary;
+    }
+
+    private static Set<Class<?>> assignableTypes(Class<?> beanClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            types.add(type);
+            collectInterfaces(type, types);
+        }
+        return types;
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> types) {
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            if (types.add(interfaceType)) {
+                collectInterfaces(interfaceType, types);
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package minispring.lifecycle;
+
+public interface PoolableBean {
+    void reset();
+}
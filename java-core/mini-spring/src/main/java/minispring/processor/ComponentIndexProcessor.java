@@ -0,0 +1,104 @@
+package minispring.processor;
+
+import minispring.annotations.Component;
+import minispring.core.ComponentIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the binary names of all {@code @Component} classes to {@link ComponentIndex#INDEX_LOCATION}
+ * at compile time, so the context can skip classpath scanning at startup.
+ * <p>
+ * An incremental compile only hands the processor the sources it recompiles, so the index already in
+ * the class output is merged in: its entries are kept as long as the type still exists and is still a
+ * component. The processor asks for every annotation type, without claiming any, so it also runs,
+ * and prunes the index, for a compile that contains no component at all.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+    private final Set<String> components = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Component.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                components.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            Set<String> previous = readPreviousIndex();
+            if (previous != null || !components.isEmpty()) {
+                for (String component : previous == null ? Set.<String>of() : previous) {
+                    if (isComponent(component)) {
+                        components.add(component);
+                    }
+                }
+                writeIndex();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The entries of the index in the class output, or {@code null} if there is none yet.
+     */
+    private Set<String> readPreviousIndex() {
+        Set<String> previous = new TreeSet<>();
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(index.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        previous.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return previous;
+    }
+
+    private boolean isComponent(String binaryName) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+        return type != null && type.getAnnotation(Component.class) != null;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String component : components) {
+                    writer.write(component);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write component index: " + e.getMessage());
+        }
+    }
+}
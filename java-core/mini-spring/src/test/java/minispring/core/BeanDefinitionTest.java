@@ -0,0 +1,195 @@
+package minispring.core;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+import minispring.annotations.Qualifier;
+import minispring.annotations.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanDefinitionTest {
+    @Test
+    void scopeIsMatchedIndependentlyOfDefaultLocale() throws ReflectiveOperationException {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertEquals(BeanDefinition.SCOPE_SINGLETON, new BeanDefinition(UpperCaseSingleton.class).getScope());
+            assertTrue(new BeanDefinition(UpperCasePrototype.class).isPrototype());
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void autowiredConstructorWinsOverOthers() throws ReflectiveOperationException {
+        BeanDefinition definition = new BeanDefinition(AutowiredConstructor.class);
+
+        assertEquals(List.of(Dependency.class), argumentTypes(definition));
+        Dependency dependency = new Dependency();
+        assertSame(dependency, ((AutowiredConstructor) definition.instantiate(new Object[]{dependency})).dependency);
+    }
+
+    @Test
+    void singleConstructorWithArgumentsIsUsed() throws ReflectiveOperationException {
+        BeanDefinition definition = new BeanDefinition(SingleConstructor.class);
+
+        assertEquals(List.of(Dependency.class, String.class), argumentTypes(definition));
+        assertNull(definition.getConstructorArguments().get(0).getQualifier());
+        assertEquals("greeting", definition.getConstructorArguments().get(1).getQualifier());
+        SingleConstructor bean = (SingleConstructor) definition.instantiate(new Object[]{new Dependency(), "hello"});
+        assertEquals("hello", bean.greeting);
+    }
+
+    @Test
+    void noArgConstructorIsUsedWhenNoneIsAutowired() throws ReflectiveOperationException {
+        BeanDefinition definition = new BeanDefinition(NoArgAmongOthers.class);
+
+        assertTrue(definition.getConstructorArguments().isEmpty());
+        assertNull(((NoArgAmongOthers) definition.instantiate(new Object[0])).dependency);
+    }
+
+    @Test
+    void severalConstructorsWithoutChoiceAreRejected() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new BeanDefinition(Ambiguous.class));
+
+        assertTrue(e.getMessage().startsWith(Ambiguous.class.getName() + " has 2 constructors"), e.getMessage());
+    }
+
+    @Test
+    void moreThanOneAutowiredConstructorIsRejected() {
+        assertThrows(IllegalStateException.class, () -> new BeanDefinition(TwoAutowired.class));
+    }
+
+    @Test
+    void privateClassesAreInstantiated() throws ReflectiveOperationException {
+        assertTrue(new BeanDefinition(PrivateBean.class).instantiate(new Object[0]) instanceof PrivateBean);
+
+        Dependency dependency = new Dependency();
+        Object bean = new BeanDefinition(PrivateBeanWithArgument.class).instantiate(new Object[]{dependency});
+        assertSame(dependency, ((PrivateBeanWithArgument) bean).dependency);
+    }
+
+    @Test
+    void handleInstantiatorCreatesInstancesAndWrapsFailures() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(PrivateBean.class, MethodHandles.lookup());
+        Supplier<Object> instantiator = BeanDefinition.handleInstantiator(
+                lookup.unreflectConstructor(PrivateBean.class.getDeclaredConstructor()), PrivateBean.class);
+        Object first = instantiator.get();
+        assertTrue(first instanceof PrivateBean);
+        assertNotSame(first, instantiator.get());
+
+        Supplier<Object> failing = BeanDefinition.handleInstantiator(
+                MethodHandles.lookup().unreflectConstructor(FailingConstructor.class.getDeclaredConstructor()), FailingConstructor.class);
+        RuntimeException e = assertThrows(RuntimeException.class, failing::get);
+        assertEquals("Failed to instantiate bean: " + FailingConstructor.class.getName(), e.getMessage());
+        assertTrue(e.getCause() instanceof UnsupportedOperationException);
+    }
+
+    private static List<Class<?>> argumentTypes(BeanDefinition definition) {
+        return definition.getConstructorArguments().stream()
+                .map(DependencyDescriptor::getType)
+                .collect(Collectors.toList());
+    }
+
+    static class Dependency {
+    }
+
+    @Component
+    static class AutowiredConstructor {
+        final Dependency dependency;
+
+        AutowiredConstructor() {
+            this.dependency = null;
+        }
+
+        @Autowired
+        AutowiredConstructor(Dependency dependency) {
+            this.dependency = dependency;
+        }
+    }
+
+    @Component
+    static class SingleConstructor {
+        final String greeting;
+
+        SingleConstructor(Dependency dependency, @Qualifier("greeting") String greeting) {
+            this.greeting = greeting;
+        }
+    }
+
+    @Component
+    static class NoArgAmongOthers {
+        final Dependency dependency;
+
+        NoArgAmongOthers(Dependency dependency) {
+            this.dependency = dependency;
+        }
+
+        NoArgAmongOthers() {
+            this(null);
+        }
+    }
+
+    @Component
+    static class Ambiguous {
+        Ambiguous(Dependency dependency) {
+        }
+
+        Ambiguous(String name) {
+        }
+    }
+
+    @Component
+    static class TwoAutowired {
+        @Autowired
+        TwoAutowired(Dependency dependency) {
+        }
+
+        @Autowired
+        TwoAutowired(String name) {
+        }
+    }
+
+    @Component
+    private static class PrivateBean {
+        private PrivateBean() {
+        }
+    }
+
+    @Component
+    private static class PrivateBeanWithArgument {
+        private final Dependency dependency;
+
+        private PrivateBeanWithArgument(Dependency dependency) {
+            this.dependency = dependency;
+        }
+    }
+
+    static class FailingConstructor {
+        FailingConstructor() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Component
+    @Scope("SINGLETON")
+    static class UpperCaseSingleton {
+    }
+
+    @Component
+    @Scope("PROTOTYPE")
+    static class UpperCasePrototype {
+    }
+}
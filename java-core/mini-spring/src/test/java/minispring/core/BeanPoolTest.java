@@ -0,0 +1,46 @@
+package minispring.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanPoolTest {
+    @Test
+    void releasedInstanceIsReused() {
+        BeanPool pool = new BeanPool(Object::new, 2);
+        Object first = pool.borrow();
+        pool.release(first);
+
+        assertSame(first, pool.borrow());
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(1, pool.getReusedCount());
+    }
+
+    @Test
+    void rejectsDoubleRelease() {
+        BeanPool pool = new BeanPool(Object::new, 2);
+        Object bean = pool.borrow();
+        pool.release(bean);
+
+        assertThrows(IllegalArgumentException.class, () -> pool.release(bean));
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getBorrowedCount());
+
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void rejectsInstanceNotBorrowedFromPool() {
+        BeanPool pool = new BeanPool(Object::new, 2);
+        pool.borrow();
+
+        assertThrows(IllegalArgumentException.class, () -> pool.release(new Object()));
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(1, pool.getBorrowedCount());
+    }
+}
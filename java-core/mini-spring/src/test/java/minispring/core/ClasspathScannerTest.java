@@ -0,0 +1,79 @@
+package minispring.core;
+
+import inno.beans.NotificationService;
+import inno.beans.PrototypeCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ClasspathScannerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void scansJarInDirectoryWithSpaceInName() throws IOException {
+        Path jar = Files.createDirectories(directory.resolve("my dir")).resolve("app.jar");
+        writeJar(jar, NotificationService.class, PrototypeCounter.class);
+
+        Set<String> found = scanWith(jar, "inno.beans");
+
+        assertEquals(Set.of(NotificationService.class.getName(), PrototypeCounter.class.getName()), found);
+    }
+
+    /**
+     * Scans with a loader that sees only the jar, so the classes compiled into the test classpath
+     * cannot make up for a jar the scanner failed to read. The jar classes must therefore not
+     * extend anything outside the JDK.
+     */
+    private static Set<String> scanWith(Path jar, String packageName) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            thread.setContextClassLoader(loader);
+            return ClasspathScanner.findClasses(packageName).stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static void writeJar(Path jar, Class<?>... classes) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            Set<String> directories = new HashSet<>();
+            for (Class<?> clazz : classes) {
+                String packagePath = clazz.getPackageName().replace('.', '/');
+                for (int end = packagePath.indexOf('/'); ; end = packagePath.indexOf('/', end + 1)) {
+                    String directoryName = (end < 0 ? packagePath : packagePath.substring(0, end)) + "/";
+                    if (directories.add(directoryName)) {
+                        out.putNextEntry(new JarEntry(directoryName));
+                        out.closeEntry();
+                    }
+                    if (end < 0) {
+                        break;
+                    }
+                }
+
+                String entryName = clazz.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new JarEntry(entryName));
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(entryName)) {
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+        }
+    }
+}
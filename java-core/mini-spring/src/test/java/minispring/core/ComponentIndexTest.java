@@ -0,0 +1,93 @@
+package minispring.core;
+
+import minispring.processor.TestCompiler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ComponentIndexTest {
+    private static final String PACKAGE = "minispring.generated";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexedRootIsNotScanned() throws Exception {
+        Path indexed = directory.resolve("indexed");
+        TestCompiler.compile(indexed, Map.of(PACKAGE + ".Listed", component("Listed"), PACKAGE + ".Unlisted", component("Unlisted")), true);
+        Files.writeString(indexed.resolve(ComponentIndex.INDEX_LOCATION), PACKAGE + ".Listed\n");
+
+        assertEquals(Set.of(PACKAGE + ".Listed"), withClasspath(() -> names(ComponentIndex.findComponents(PACKAGE)), indexed));
+
+        withClasspath(() -> {
+            MiniApplicationContext context = new MiniApplicationContext(PACKAGE);
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            context.getBean(loader.loadClass(PACKAGE + ".Listed"));
+            assertThrows(RuntimeException.class, () -> context.getBean(loader.loadClass(PACKAGE + ".Unlisted")));
+            return null;
+        }, indexed);
+    }
+
+    @Test
+    void rootWithoutIndexIsScannedAlongsideIndexedOne() throws Exception {
+        Path indexed = directory.resolve("indexed");
+        Path plain = directory.resolve("plain");
+        TestCompiler.compile(indexed, Map.of(PACKAGE + ".Listed", component("Listed")), true);
+        TestCompiler.compile(plain, Map.of(PACKAGE + ".Scanned", component("Scanned"), PACKAGE + ".Helper", "package " + PACKAGE + "; public class Helper {}"), false);
+
+        assertEquals(Set.of(PACKAGE + ".Listed", PACKAGE + ".Scanned", PACKAGE + ".Helper"),
+                withClasspath(() -> names(ComponentIndex.findComponents(PACKAGE)), indexed, plain));
+
+        withClasspath(() -> {
+            MiniApplicationContext context = new MiniApplicationContext(PACKAGE);
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            context.getBean(loader.loadClass(PACKAGE + ".Listed"));
+            context.getBean(loader.loadClass(PACKAGE + ".Scanned"));
+            return null;
+        }, indexed, plain);
+    }
+
+    @Test
+    void rootWithStaleIndexIsScanned() throws Exception {
+        Path indexed = directory.resolve("indexed");
+        TestCompiler.compile(indexed, Map.of(PACKAGE + ".Listed", component("Listed")), true);
+        Files.writeString(indexed.resolve(ComponentIndex.INDEX_LOCATION), PACKAGE + ".Listed\n" + PACKAGE + ".Deleted\n");
+
+        assertEquals(Set.of(PACKAGE + ".Listed"), withClasspath(() -> names(ComponentIndex.findComponents(PACKAGE)), indexed));
+    }
+
+    private static <T> T withClasspath(Callable<T> action, Path... roots) throws Exception {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(urls, ComponentIndexTest.class.getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            return action.call();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static Set<String> names(Set<Class<?>> classes) {
+        return classes.stream().map(Class::getName).collect(Collectors.toSet());
+    }
+
+    private static String component(String simpleName) {
+        return "package " + PACKAGE + "; @minispring.annotations.Component public class " + simpleName + " {}";
+    }
+}
@@ -0,0 +1,153 @@
+package minispring.core;
+
+import minispring.fixture.greeting.EnglishGreeter;
+import minispring.fixture.greeting.GermanGreeter;
+import minispring.fixture.greeting.Reception;
+import minispring.fixture.lazy.SmtpMailer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ContextSnapshotTest {
+    private static final String BASE_PACKAGE = "minispring.fixture.greeting";
+
+    @TempDir
+    Path directory;
+
+    private Path snapshot;
+    private Path classpath;
+    private String previousClasspath;
+
+    /**
+     * Points {@code java.class.path} at a directory the test controls, so it can change what the
+     * snapshot key is computed from.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshot = directory.resolve("context.snapshot");
+        classpath = Files.createDirectories(directory.resolve("classes"));
+        Files.write(Files.createDirectories(classpath.resolve("minispring/fixture/greeting")).resolve("Greeter.class"), new byte[]{1});
+        previousClasspath = System.getProperty("java.class.path");
+        System.setProperty("java.class.path", classpath.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setProperty("java.class.path", previousClasspath);
+        System.clearProperty(MiniApplicationContext.SNAPSHOT_PROPERTY);
+    }
+
+    @Test
+    void roundTripKeepsDefinitions() throws Exception {
+        List<BeanDefinition> definitions = List.of(new BeanDefinition(EnglishGreeter.class), new BeanDefinition(GermanGreeter.class),
+                new BeanDefinition(Reception.class), new BeanDefinition(SmtpMailer.class));
+        String key = ContextSnapshot.classpathKey(BASE_PACKAGE);
+        ContextSnapshot.write(snapshot, key, definitions);
+
+        List<BeanDefinition> loaded = ContextSnapshot.load(snapshot, key, getClass().getClassLoader());
+
+        assertNotNull(loaded);
+        assertEquals(describe(definitions), describe(loaded));
+    }
+
+    @Test
+    void changedOrAddedClassFileInvalidatesKey() throws Exception {
+        String key = ContextSnapshot.classpathKey(BASE_PACKAGE);
+        ContextSnapshot.write(snapshot, key, List.of(new BeanDefinition(EnglishGreeter.class)));
+        assertEquals(key, ContextSnapshot.classpathKey(BASE_PACKAGE));
+
+        Path greeter = classpath.resolve("minispring/fixture/greeting/Greeter.class");
+        Files.setLastModifiedTime(greeter, FileTime.fromMillis(Files.getLastModifiedTime(greeter).toMillis() - 60_000));
+        String changedKey = ContextSnapshot.classpathKey(BASE_PACKAGE);
+        assertNotEquals(key, changedKey);
+        assertNull(ContextSnapshot.load(snapshot, changedKey, getClass().getClassLoader()));
+
+        Files.write(greeter.resolveSibling("Added.class"), new byte[]{2});
+        String addedKey = ContextSnapshot.classpathKey(BASE_PACKAGE);
+        assertNotEquals(changedKey, addedKey);
+        assertNull(ContextSnapshot.load(snapshot, addedKey, getClass().getClassLoader()));
+    }
+
+    @Test
+    void contextScansAgainWhenSnapshotIsStale() throws IOException {
+        System.setProperty(MiniApplicationContext.SNAPSHOT_PROPERTY, snapshot.toString());
+        new MiniApplicationContext(BASE_PACKAGE);
+        String writtenKey = keyLine();
+
+        Files.write(classpath.resolve("minispring/fixture/greeting/Added.class"), new byte[]{2});
+        MiniApplicationContext context = new MiniApplicationContext(BASE_PACKAGE);
+
+        assertEquals("hello, hallo", context.getBean(Reception.class).greetings());
+        assertNotEquals(writtenKey, keyLine());
+        assertEquals("key\t" + ContextSnapshot.classpathKey(BASE_PACKAGE), keyLine());
+    }
+
+    @Test
+    void truncatedSnapshotFallsBackToScanning() throws Exception {
+        String key = ContextSnapshot.classpathKey(BASE_PACKAGE);
+        ContextSnapshot.write(snapshot, key, List.of(new BeanDefinition(EnglishGreeter.class), new BeanDefinition(GermanGreeter.class),
+                new BeanDefinition(Reception.class)));
+        List<String> lines = Files.readAllLines(snapshot, StandardCharsets.UTF_8);
+
+        for (int keep = 0; keep < lines.size(); keep++) {
+            Files.write(snapshot, lines.subList(0, keep), StandardCharsets.UTF_8);
+            assertNull(ContextSnapshot.load(snapshot, key, getClass().getClassLoader()), "first " + keep + " lines");
+        }
+
+        assertStartsByScanning();
+    }
+
+    @Test
+    void corruptSnapshotFallsBackToScanning() throws Exception {
+        String key = ContextSnapshot.classpathKey(BASE_PACKAGE);
+        ContextSnapshot.write(snapshot, key, List.of(new BeanDefinition(EnglishGreeter.class)));
+        String valid = Files.readString(snapshot, StandardCharsets.UTF_8);
+
+        Files.writeString(snapshot, valid.replace(EnglishGreeter.class.getName(), "minispring.fixture.greeting.Missing"), StandardCharsets.UTF_8);
+        assertNull(ContextSnapshot.load(snapshot, key, getClass().getClassLoader()));
+
+        Files.writeString(snapshot, valid.replace("\tsingleton\t16\t", "\tsingleton\tmany\t"), StandardCharsets.UTF_8);
+        assertNull(ContextSnapshot.load(snapshot, key, getClass().getClassLoader()));
+
+        assertStartsByScanning();
+    }
+
+    private void assertStartsByScanning() throws IOException {
+        System.setProperty(MiniApplicationContext.SNAPSHOT_PROPERTY, snapshot.toString());
+        MiniApplicationContext context = new MiniApplicationContext(BASE_PACKAGE);
+
+        assertEquals("hello, hallo", context.getBean(Reception.class).greetings());
+        assertEquals(3, ContextSnapshot.load(snapshot, ContextSnapshot.classpathKey(BASE_PACKAGE), getClass().getClassLoader()).size());
+    }
+
+    private String keyLine() throws IOException {
+        return Files.readAllLines(snapshot, StandardCharsets.UTF_8).get(1);
+    }
+
+    private static List<String> describe(List<BeanDefinition> definitions) {
+        List<String> described = new ArrayList<>();
+        for (BeanDefinition definition : definitions) {
+            described.add(String.join(" ", definition.getBeanClass().getName(), definition.getBeanName(), definition.getScope(),
+                    String.valueOf(definition.getPoolSize()), String.valueOf(definition.isLazy()), String.valueOf(definition.isPrimary()),
+                    String.valueOf(definition.getDependencies()),
+                    definition.getInjectionPoints().stream().map(point -> point.getField().getName()).collect(Collectors.joining(","))));
+        }
+        described.sort(null);
+        return described;
+    }
+}
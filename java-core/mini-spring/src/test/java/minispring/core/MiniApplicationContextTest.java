@@ -0,0 +1,153 @@
+package minispring.core;
+
+import minispring.fixture.concurrent.SlowSingleton;
+import minispring.fixture.diamond.Bottom;
+import minispring.fixture.diamond.Initialized;
+import minispring.fixture.diamond.Left;
+import minispring.fixture.diamond.Right;
+import minispring.fixture.diamond.Top;
+import minispring.fixture.failing.Broken;
+import minispring.fixture.failing.DependsOnBroken;
+import minispring.fixture.greeting.EnglishGreeter;
+import minispring.fixture.greeting.GermanGreeter;
+import minispring.fixture.greeting.Greeter;
+import minispring.fixture.greeting.Reception;
+import minispring.fixture.lazy.Cache;
+import minispring.fixture.lazy.Mailer;
+import minispring.fixture.lazy.Signup;
+import minispring.fixture.lazy.SmtpMailer;
+import minispring.fixture.lazy.Warmup;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MiniApplicationContextTest {
+    private static final int THREADS = 16;
+
+    @Test
+    void concurrentGetBeanCreatesSingletonOnce() throws Exception {
+        SlowSingleton.CONSTRUCTIONS.set(0);
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.concurrent");
+        assertEquals(0, SlowSingleton.CONSTRUCTIONS.get());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SlowSingleton>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return context.getBean(SlowSingleton.class);
+            }));
+        }
+        start.countDown();
+
+        SlowSingleton first = results.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<SlowSingleton> result : results) {
+            assertSame(first, result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, SlowSingleton.CONSTRUCTIONS.get());
+    }
+
+    @Test
+    void circularDependencyIsReportedWithItsPath() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new MiniApplicationContext("minispring.fixture.cycle"));
+
+        assertTrue(e.getMessage().equals("Circular dependency: A -> B -> A")
+                || e.getMessage().equals("Circular dependency: B -> A -> B"), e.getMessage());
+    }
+
+    @Test
+    void diamondDependenciesAreInitializedBeforeTheirDependents() {
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.diamond");
+        Top top = context.getBean(Top.class);
+        Bottom bottom = context.getBean(Bottom.class);
+
+        assertSame(context.getBean(Left.class), top.getLeft());
+        assertSame(context.getBean(Right.class), top.getRight());
+        assertSame(bottom, top.getLeft().getBottom());
+        assertSame(bottom, top.getRight().getBottom());
+        for (Initialized bean : List.of(bottom, top.getLeft(), top.getRight(), top)) {
+            assertTrue(bean.isInitialized(), bean.getClass().getSimpleName());
+            assertTrue(bean.wereDependenciesInitialized(), bean.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void failedSingletonIsReportedFromTheConstructor() {
+        DependsOnBroken.CONSTRUCTIONS.set(0);
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> new MiniApplicationContext("minispring.fixture.failing"));
+
+        assertEquals("Failed to instantiate singleton bean: " + Broken.class.getName(), e.getMessage());
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        assertEquals("broken on purpose", cause.getMessage());
+        assertEquals(0, DependsOnBroken.CONSTRUCTIONS.get());
+    }
+
+    @Test
+    void lazyBeanBehindInterfaceIsCreatedOnFirstCall() {
+        SmtpMailer.CONSTRUCTIONS.set(0);
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.lazy");
+        Mailer mailer = context.getBean(Signup.class).getMailer();
+        assertEquals(0, SmtpMailer.CONSTRUCTIONS.get());
+
+        assertEquals("sent: hello", mailer.send("hello"));
+        assertEquals(1, SmtpMailer.CONSTRUCTIONS.get());
+        assertSame(context.getBean(SmtpMailer.class), context.getBean(Mailer.class));
+        assertEquals(1, SmtpMailer.CONSTRUCTIONS.get());
+    }
+
+    @Test
+    void lazyProxyAnswersObjectMethodsWithoutCreatingTheBean() {
+        SmtpMailer.CONSTRUCTIONS.set(0);
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.lazy");
+        Mailer mailer = context.getBean(Signup.class).getMailer();
+
+        assertEquals("Lazy " + Mailer.class.getName() + " (not created yet)", mailer.toString());
+        Set<Mailer> mailers = new HashSet<>(List.of(mailer));
+        assertTrue(mailers.contains(mailer));
+        assertEquals(mailer, mailer);
+        assertEquals(0, SmtpMailer.CONSTRUCTIONS.get());
+
+        assertNotEquals(mailer, context.getBean(Mailer.class));
+    }
+
+    @Test
+    void lazyBeanInjectedByClassIsCreatedWithItsDependent() {
+        Cache.CONSTRUCTIONS.set(0);
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.lazy");
+
+        assertEquals(1, Cache.CONSTRUCTIONS.get());
+        assertSame(context.getBean(Cache.class), context.getBean(Warmup.class).getCache());
+        assertEquals(1, Cache.CONSTRUCTIONS.get());
+    }
+
+    @Test
+    void injectsPrimaryOrQualifiedImplementationOfInterface() {
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.greeting");
+
+        assertEquals("hello, hallo", context.getBean(Reception.class).greetings());
+        assertSame(context.getBean(EnglishGreeter.class), context.getBean(Greeter.class));
+        assertSame(context.getBean(GermanGreeter.class), context.getBean("german", Greeter.class));
+    }
+}
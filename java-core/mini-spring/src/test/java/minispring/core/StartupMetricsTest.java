@@ -0,0 +1,75 @@
+package minispring.core;
+
+import minispring.fixture.metrics.Page;
+import minispring.fixture.metrics.Report;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupMetricsTest {
+    @Test
+    void recordsPhasesPerBeanWithDependencyPath() {
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.metrics");
+        StartupMetrics metrics = context.getStartupMetrics();
+
+        Map<String, BeanStartupTiming> timings = metrics.getBeanTimings().stream()
+                .collect(Collectors.toMap(BeanStartupTiming::getBeanName, timing -> timing));
+        assertEquals(2, timings.size());
+
+        BeanStartupTiming report = timings.get("report");
+        assertEquals(Report.class, report.getBeanClass());
+        assertEquals(List.of("report"), report.getDependencyPath());
+        assertTrue(report.getAfterPropertiesSetNanos() >= 1_000_000);
+
+        BeanStartupTiming page = timings.get("page");
+        assertEquals(Page.class, page.getBeanClass());
+        assertEquals(List.of("report", "page"), page.getDependencyPath());
+        assertEquals(0, page.getInjectionNanos());
+        assertEquals(0, page.getAfterPropertiesSetNanos());
+
+        assertTrue(metrics.getStartupNanos() >= report.getAfterPropertiesSetNanos());
+        assertTrue(metrics.toJson().contains("\"name\": \"page\", \"class\": \"" + Page.class.getName() + "\""));
+        assertTrue(metrics.toJson().contains("\"dependencyPath\": [\"report\", \"page\"]"));
+        assertTrue(metrics.toCollapsedStacks().contains("startup;report;afterPropertiesSet " + report.getAfterPropertiesSetNanos() + "\n"));
+    }
+
+    @Test
+    void phaseEventsCarryDependencyPathWhileRecording(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("startup.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BeanPhaseEvent.class);
+            recording.start();
+            new MiniApplicationContext("minispring.fixture.metrics");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> pagePaths = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> "page".equals(event.getString("beanName")))
+                .map(event -> event.getString("dependencyPath"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("report -> page"), pagePaths);
+    }
+
+    @Test
+    void prototypesCreatedAfterStartupAreNotRecorded() {
+        MiniApplicationContext context = new MiniApplicationContext("minispring.fixture.metrics");
+        int recorded = context.getStartupMetrics().getBeanTimings().size();
+
+        context.getBean(Page.class);
+        context.getBean(Page.class);
+
+        assertEquals(recorded, context.getStartupMetrics().getBeanTimings().size());
+    }
+}
@@ -0,0 +1,107 @@
+package minispring.core;
+
+import minispring.annotations.Component;
+import minispring.annotations.Primary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeIndexTest {
+    @Test
+    void findsBeanBySuperclassAndInterface() throws ReflectiveOperationException {
+        BeanDefinition sqlStore = new BeanDefinition(SqlStore.class);
+        TypeIndex index = new TypeIndex(List.of(sqlStore));
+
+        assertSame(sqlStore, index.find(SqlStore.class, null));
+        assertSame(sqlStore, index.find(AbstractStore.class, null));
+        assertSame(sqlStore, index.find(Store.class, null));
+        assertSame(sqlStore, index.find(Named.class, null));
+        assertNull(index.find(Runnable.class, null));
+    }
+
+    @Test
+    void primaryBeanWinsAmongSeveralImplementations() throws ReflectiveOperationException {
+        BeanDefinition memoryStore = new BeanDefinition(MemoryStore.class);
+        BeanDefinition primaryStore = new BeanDefinition(PrimaryStore.class);
+        TypeIndex index = new TypeIndex(List.of(memoryStore, primaryStore));
+
+        assertSame(primaryStore, index.find(Store.class, null));
+        assertSame(memoryStore, index.find(MemoryStore.class, null));
+    }
+
+    @Test
+    void qualifierSelectsBeanByName() throws ReflectiveOperationException {
+        BeanDefinition memoryStore = new BeanDefinition(MemoryStore.class);
+        BeanDefinition primaryStore = new BeanDefinition(PrimaryStore.class);
+        TypeIndex index = new TypeIndex(List.of(memoryStore, primaryStore));
+
+        assertSame(memoryStore, index.find(Store.class, "memory"));
+        assertSame(primaryStore, index.find(Store.class, "primaryStore"));
+        assertNull(index.find(Store.class, "missing"));
+        assertNull(index.find(Runnable.class, "memory"));
+    }
+
+    @Test
+    void severalImplementationsWithoutPrimaryAreAmbiguous() throws ReflectiveOperationException {
+        TypeIndex index = new TypeIndex(List.of(new BeanDefinition(MemoryStore.class), new BeanDefinition(SqlStore.class)));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> index.find(Store.class, null));
+        assertTrue(e.getMessage().startsWith("More than one bean of type " + Store.class.getName()), e.getMessage());
+        assertSame(SqlStore.class, index.find(Store.class, "sqlStore").getBeanClass());
+    }
+
+    @Test
+    void twoPrimaryBeansAreAmbiguous() throws ReflectiveOperationException {
+        TypeIndex index = new TypeIndex(List.of(new BeanDefinition(PrimaryStore.class), new BeanDefinition(OtherPrimaryStore.class)));
+
+        assertThrows(IllegalStateException.class, () -> index.find(Store.class, null));
+    }
+
+    @Test
+    void duplicateBeanNamesAreRejected() throws ReflectiveOperationException {
+        List<BeanDefinition> definitions = new ArrayList<>();
+        definitions.add(new BeanDefinition(MemoryStore.class));
+        definitions.add(new BeanDefinition(AlsoMemory.class));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new TypeIndex(definitions));
+        assertEquals("Bean name 'memory' is used by both " + MemoryStore.class.getName() + " and " + AlsoMemory.class.getName(), e.getMessage());
+    }
+
+    interface Named {
+    }
+
+    interface Store extends Named {
+    }
+
+    abstract static class AbstractStore implements Store {
+    }
+
+    @Component
+    static class SqlStore extends AbstractStore {
+    }
+
+    @Component("memory")
+    static class MemoryStore implements Store {
+    }
+
+    @Component
+    @Primary
+    static class PrimaryStore implements Store {
+    }
+
+    @Component
+    @Primary
+    static class OtherPrimaryStore implements Store {
+    }
+
+    @Component("memory")
+    static class AlsoMemory {
+    }
+}
@@ -0,0 +1,20 @@
+package minispring.fixture.concurrent;
+
+import minispring.annotations.Component;
+import minispring.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazy, so it is first created by whichever test thread asks for it.
+ */
+@Component
+@Lazy
+public class SlowSingleton {
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    public SlowSingleton() throws InterruptedException {
+        CONSTRUCTIONS.incrementAndGet();
+        Thread.sleep(50);
+    }
+}
@@ -0,0 +1,10 @@
+package minispring.fixture.cycle;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+
+@Component
+public class A {
+    @Autowired
+    private B b;
+}
@@ -0,0 +1,11 @@
+package minispring.fixture.diamond;
+
+import minispring.annotations.Component;
+
+@Component
+public class Bottom extends Initialized {
+    @Override
+    protected boolean dependenciesInitialized() {
+        return true;
+    }
+}
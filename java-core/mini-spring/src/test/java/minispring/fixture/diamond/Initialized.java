@@ -0,0 +1,28 @@
+package minispring.fixture.diamond;
+
+import minispring.lifecycle.InitializingBean;
+
+/**
+ * Remembers whether every dependency was already initialized when this bean was.
+ */
+public abstract class Initialized implements InitializingBean {
+    private volatile boolean initialized;
+    private volatile boolean dependenciesInitialized;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Thread.sleep(20);
+        dependenciesInitialized = dependenciesInitialized();
+        initialized = true;
+    }
+
+    protected abstract boolean dependenciesInitialized();
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public boolean wereDependenciesInitialized() {
+        return dependenciesInitialized;
+    }
+}
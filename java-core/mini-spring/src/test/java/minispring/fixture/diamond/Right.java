@@ -0,0 +1,19 @@
+package minispring.fixture.diamond;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+
+@Component
+public class Right extends Initialized {
+    @Autowired
+    private Bottom bottom;
+
+    public Bottom getBottom() {
+        return bottom;
+    }
+
+    @Override
+    protected boolean dependenciesInitialized() {
+        return bottom.isInitialized();
+    }
+}
@@ -0,0 +1,29 @@
+package minispring.fixture.diamond;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+
+@Component
+public class Top extends Initialized {
+    private final Left left;
+    private final Right right;
+
+    @Autowired
+    public Top(Left left, Right right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    public Left getLeft() {
+        return left;
+    }
+
+    public Right getRight() {
+        return right;
+    }
+
+    @Override
+    protected boolean dependenciesInitialized() {
+        return left.isInitialized() && right.isInitialized();
+    }
+}
@@ -0,0 +1,12 @@
+package minispring.fixture.failing;
+
+import minispring.annotations.Component;
+import minispring.lifecycle.InitializingBean;
+
+@Component
+public class Broken implements InitializingBean {
+    @Override
+    public void afterPropertiesSet() {
+        throw new IllegalStateException("broken on purpose");
+    }
+}
@@ -0,0 +1,18 @@
+package minispring.fixture.failing;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class DependsOnBroken {
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    @Autowired
+    private Broken broken;
+
+    public DependsOnBroken() {
+        CONSTRUCTIONS.incrementAndGet();
+    }
+}
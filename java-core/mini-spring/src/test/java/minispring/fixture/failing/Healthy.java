@@ -0,0 +1,7 @@
+package minispring.fixture.failing;
+
+import minispring.annotations.Component;
+
+@Component
+public class Healthy {
+}
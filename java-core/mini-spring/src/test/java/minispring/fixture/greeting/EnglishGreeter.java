@@ -0,0 +1,13 @@
+package minispring.fixture.greeting;
+
+import minispring.annotations.Component;
+import minispring.annotations.Primary;
+
+@Component
+@Primary
+public class EnglishGreeter implements Greeter {
+    @Override
+    public String greet() {
+        return "hello";
+    }
+}
@@ -0,0 +1,11 @@
+package minispring.fixture.greeting;
+
+import minispring.annotations.Component;
+
+@Component("german")
+public class GermanGreeter implements Greeter {
+    @Override
+    public String greet() {
+        return "hallo";
+    }
+}
@@ -0,0 +1,5 @@
+package minispring.fixture.greeting;
+
+public interface Greeter {
+    String greet();
+}
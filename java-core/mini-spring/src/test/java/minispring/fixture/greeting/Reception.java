@@ -0,0 +1,22 @@
+package minispring.fixture.greeting;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+import minispring.annotations.Qualifier;
+
+@Component
+public class Reception {
+    private final Greeter german;
+
+    @Autowired
+    private Greeter greeter;
+
+    @Autowired
+    public Reception(@Qualifier("german") Greeter german) {
+        this.german = german;
+    }
+
+    public String greetings() {
+        return greeter.greet() + ", " + german.greet();
+    }
+}
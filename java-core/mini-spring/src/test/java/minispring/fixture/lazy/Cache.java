@@ -0,0 +1,16 @@
+package minispring.fixture.lazy;
+
+import minispring.annotations.Component;
+import minispring.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class Cache {
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    public Cache() {
+        CONSTRUCTIONS.incrementAndGet();
+    }
+}
@@ -0,0 +1,5 @@
+package minispring.fixture.lazy;
+
+public interface Mailer {
+    String send(String message);
+}
@@ -0,0 +1,14 @@
+package minispring.fixture.lazy;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+
+@Component
+public class Signup {
+    @Autowired
+    private Mailer mailer;
+
+    public Mailer getMailer() {
+        return mailer;
+    }
+}
@@ -0,0 +1,21 @@
+package minispring.fixture.lazy;
+
+import minispring.annotations.Component;
+import minispring.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class SmtpMailer implements Mailer {
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    public SmtpMailer() {
+        CONSTRUCTIONS.incrementAndGet();
+    }
+
+    @Override
+    public String send(String message) {
+        return "sent: " + message;
+    }
+}
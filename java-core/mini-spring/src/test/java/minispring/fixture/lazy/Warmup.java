@@ -0,0 +1,14 @@
+package minispring.fixture.lazy;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+
+@Component
+public class Warmup {
+    @Autowired
+    private Cache cache;
+
+    public Cache getCache() {
+        return cache;
+    }
+}
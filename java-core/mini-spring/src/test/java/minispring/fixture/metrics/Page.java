@@ -0,0 +1,9 @@
+package minispring.fixture.metrics;
+
+import minispring.annotations.Component;
+import minispring.annotations.Scope;
+
+@Component
+@Scope("prototype")
+public class Page {
+}
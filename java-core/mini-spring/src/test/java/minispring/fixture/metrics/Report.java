@@ -0,0 +1,20 @@
+package minispring.fixture.metrics;
+
+import minispring.annotations.Autowired;
+import minispring.annotations.Component;
+import minispring.lifecycle.InitializingBean;
+
+@Component
+public class Report implements InitializingBean {
+    @Autowired
+    private Page page;
+
+    public Page getPage() {
+        return page;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws InterruptedException {
+        Thread.sleep(1);
+    }
+}
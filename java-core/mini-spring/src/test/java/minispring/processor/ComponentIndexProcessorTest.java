@@ -0,0 +1,66 @@
+package minispring.processor;
+
+import minispring.core.ComponentIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ComponentIndexProcessorTest {
+    @TempDir
+    Path output;
+
+    @Test
+    void indexesComponentClassesByBinaryName() throws IOException {
+        TestCompiler.compile(output, Map.of(
+                "shop.Cart", component("Cart"),
+                "shop.Price", "package shop; public class Price {}",
+                "shop.Outer", "package shop; public class Outer { @minispring.annotations.Component public static class Inner {} }"), true);
+
+        assertEquals(List.of("shop.Cart", "shop.Outer$Inner"), index());
+    }
+
+    @Test
+    void incrementalCompileKeepsComponentsItDidNotSee() throws IOException {
+        TestCompiler.compile(output, Map.of("shop.Cart", component("Cart")), true);
+        TestCompiler.compile(output, Map.of("shop.Checkout", component("Checkout")), true);
+
+        assertEquals(List.of("shop.Cart", "shop.Checkout"), index());
+    }
+
+    @Test
+    void dropsEntriesWhoseTypeIsGoneOrNoLongerAComponent() throws IOException {
+        TestCompiler.compile(output, Map.of(
+                "shop.Cart", component("Cart"),
+                "shop.Checkout", component("Checkout"),
+                "shop.Price", component("Price")), true);
+
+        Files.delete(output.resolve("shop/Cart.class"));
+        TestCompiler.compile(output, Map.of("shop.Price", "package shop; public class Price {}"), true);
+
+        assertEquals(List.of("shop.Checkout"), index());
+    }
+
+    @Test
+    void writesNoIndexWithoutComponents() {
+        TestCompiler.compile(output, Map.of("shop.Price", "package shop; public class Price {}"), true);
+
+        assertFalse(Files.exists(output.resolve(ComponentIndex.INDEX_LOCATION)));
+    }
+
+    private List<String> index() throws IOException {
+        return Files.readAllLines(output.resolve(ComponentIndex.INDEX_LOCATION), StandardCharsets.UTF_8);
+    }
+
+    private static String component(String simpleName) {
+        return "package shop; @minispring.annotations.Component public class " + simpleName + " {}";
+    }
+}
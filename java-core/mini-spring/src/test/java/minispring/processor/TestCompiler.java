@@ -0,0 +1,69 @@
+package minispring.processor;
+
+import minispring.annotations.Component;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles sources held in memory against the mini-spring classes, with or without
+ * {@link ComponentIndexProcessor}, so tests can build classpath roots the way a user's build would.
+ */
+public class TestCompiler {
+    /**
+     * @param sources source code by top-level class name, e.g. {@code com.example.Service}
+     */
+    public static void compile(Path output, Map<String, String> sources, boolean indexComponents) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> units = new ArrayList<>();
+        sources.forEach((className, code) -> units.add(new Source(className, code)));
+
+        List<String> options = new ArrayList<>(List.of("-d", output.toString(),
+                "-classpath", frameworkClasses() + File.pathSeparator + output));
+        if (!indexComponents) {
+            options.add("-proc:none");
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, units);
+        if (indexComponents) {
+            task.setProcessors(List.of(new ComponentIndexProcessor()));
+        }
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+        }
+    }
+
+    private static Path frameworkClasses() {
+        try {
+            return Paths.get(Component.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}